@@ -0,0 +1,61 @@
+package cn.langya;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * JSON数组节点
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class ArrayNode extends JsonNode implements Iterable<JsonNode> {
+    private final List<JsonNode> elements = new ArrayList<>();
+
+    public ArrayNode() {
+        super(Kind.ARRAY);
+    }
+
+    @Override
+    public JsonNode get(int index) {
+        return index >= 0 && index < elements.size() ? elements.get(index) : null;
+    }
+
+    /**
+     * 追加元素，value为null时追加 {@link NullNode#INSTANCE}
+     *
+     * @return 本节点，便于链式调用
+     */
+    public ArrayNode add(JsonNode value) {
+        elements.add(value == null ? NullNode.INSTANCE : value);
+        return this;
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * @return 全部元素，修改会反映到本节点
+     */
+    public List<JsonNode> elements() {
+        return elements;
+    }
+
+    @Override
+    public Iterator<JsonNode> iterator() {
+        return elements.iterator();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ArrayNode && elements.equals(((ArrayNode) o).elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return elements.hashCode();
+    }
+}
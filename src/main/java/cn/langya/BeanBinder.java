@@ -0,0 +1,262 @@
+package cn.langya;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 普通Java对象（POJO）与JSON对象之间的转换
+ * 绑定的是类及其父类中所有非static、非transient的字段，JSON中的键就是字段名；
+ * 字段的读写通过 MethodHandle 完成，int、long、double、float、boolean 字段不装箱。
+ * 字段信息在第一次读写时生成，相互引用的类因此不会在生成时无限递归。
+ * 读取时不认识的键被跳过，final字段只写出不读取；写出时值为null的字段照常写出
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+final class BeanBinder extends TypeBinder {
+    private static final MethodType NO_ARGS = MethodType.methodType(Object.class);
+
+    private final Class<?> type;
+    private volatile Property[] properties;
+    private Map<String, Property> byName;
+    private MethodHandle constructor;
+
+    BeanBinder(Class<?> type) {
+        super(true);
+        this.type = type;
+    }
+
+    /**
+     * 通过无参构造器创建 type 的实例
+     *
+     * @throws IllegalArgumentException 没有可访问的无参构造器时抛出
+     */
+    static Object instantiate(Class<?> type) {
+        return invoke(constructorOf(type));
+    }
+
+    @Override
+    Object read(JsonReader reader) {
+        if (reader.currentToken() != JsonToken.START_OBJECT) {
+            throw mismatch(reader, type);
+        }
+        init();
+        MethodHandle ctor = constructor;
+        if (ctor == null) {
+            ctor = constructor = constructorOf(type);
+        }
+        Object bean = invoke(ctor);
+        Map<String, Property> names = byName;
+        while (reader.nextToken() == JsonToken.FIELD_NAME) {
+            Property property = names.get(reader.currentName());
+            reader.nextToken();
+            if (property == null || property.setter == null) {
+                reader.skipChildren();
+                continue;
+            }
+            try {
+                property.read(reader, bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    void write(JsonWriter writer, Object value) {
+        if (value.getClass() != type) {
+            // 按实际类型写出子类的全部字段
+            TypeBinder.of(value.getClass()).write(writer, value);
+            return;
+        }
+        init();
+        writer.writeAscii('{');
+        Property[] props = properties;
+        for (int i = 0; i < props.length; i++) {
+            if (i > 0) {
+                writer.writeAscii(',');
+            }
+            writer.writeString(props[i].name);
+            writer.writeAscii(':');
+            try {
+                props[i].write(writer, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        writer.writeAscii('}');
+    }
+
+    /**
+     * 生成字段信息；并发时可能生成多次，结果相同，后写入的覆盖先写入的
+     */
+    private void init() {
+        if (properties != null) {
+            return;
+        }
+        List<Property> list = new ArrayList<>();
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.add(0, c);
+        }
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        Map<String, Property> names = new HashMap<>();
+        for (Class<?> c : hierarchy) {
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                Property property = new Property(lookup, field);
+                // 子类的同名字段遮蔽父类的字段
+                Property hidden = names.put(property.name, property);
+                if (hidden != null) {
+                    list.remove(hidden);
+                }
+                list.add(property);
+            }
+        }
+        byName = names;
+        properties = list.toArray(new Property[0]);
+    }
+
+    private static MethodHandle constructorOf(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            throw new IllegalArgumentException("无法实例化抽象类型: " + type.getName());
+        }
+        try {
+            Constructor<?> ctor = type.getDeclaredConstructor();
+            ctor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(ctor).asType(NO_ARGS);
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("类 " + type.getName() + " 没有可访问的无参构造器", e);
+        }
+    }
+
+    private static Object invoke(MethodHandle ctor) {
+        try {
+            return (Object) ctor.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 一个字段的名字、读写句柄和值的转换规则
+     */
+    private static final class Property {
+        private static final int OBJECT = 0;
+        private static final int INT = 1;
+        private static final int LONG = 2;
+        private static final int DOUBLE = 3;
+        private static final int FLOAT = 4;
+        private static final int BOOLEAN = 5;
+
+        final String name;
+        final int kind;
+        final MethodHandle getter;
+        /**
+         * final字段为null
+         */
+        final MethodHandle setter;
+        private final java.lang.reflect.Type genericType;
+        private TypeBinder binder;
+
+        Property(MethodHandles.Lookup lookup, Field field) {
+            this.name = field.getName();
+            this.genericType = field.getGenericType();
+            Class<?> type = field.getType();
+            this.kind = type == int.class ? INT
+                    : type == long.class ? LONG
+                    : type == double.class ? DOUBLE
+                    : type == float.class ? FLOAT
+                    : type == boolean.class ? BOOLEAN
+                    : OBJECT;
+            Class<?> handleType = kind == OBJECT ? Object.class : type;
+            try {
+                field.setAccessible(true);
+                this.getter = lookup.unreflectGetter(field)
+                        .asType(MethodType.methodType(handleType, Object.class));
+                this.setter = Modifier.isFinal(field.getModifiers()) ? null : lookup.unreflectSetter(field)
+                        .asType(MethodType.methodType(void.class, Object.class, handleType));
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new IllegalArgumentException("无法访问字段 " + field.getDeclaringClass().getName() + "." + name, e);
+            }
+        }
+
+        /**
+         * 值的转换规则在第一次用到时解析，字段类型可以引用正在生成字段信息的类
+         */
+        private TypeBinder binder() {
+            TypeBinder b = binder;
+            if (b == null) {
+                b = binder = TypeBinder.of(genericType);
+            }
+            return b;
+        }
+
+        void read(JsonReader reader, Object bean) throws Throwable {
+            if (kind != OBJECT && reader.currentToken() == JsonToken.VALUE_NULL) {
+                throw reader.error("基本类型的字段 " + name + " 不能为null");
+            }
+            switch (kind) {
+                case INT:
+                    setter.invokeExact(bean, reader.getInt());
+                    break;
+                case LONG:
+                    setter.invokeExact(bean, reader.getLong());
+                    break;
+                case DOUBLE:
+                    setter.invokeExact(bean, reader.getDouble());
+                    break;
+                case FLOAT:
+                    setter.invokeExact(bean, (float) reader.getDouble());
+                    break;
+                case BOOLEAN:
+                    setter.invokeExact(bean, reader.getBoolean());
+                    break;
+                default:
+                    setter.invokeExact(bean, binder().readValue(reader));
+                    break;
+            }
+        }
+
+        void write(JsonWriter writer, Object bean) throws Throwable {
+            switch (kind) {
+                case INT:
+                    writer.writeLong((int) getter.invokeExact(bean));
+                    break;
+                case LONG:
+                    writer.writeLong((long) getter.invokeExact(bean));
+                    break;
+                case DOUBLE:
+                    writer.writeDouble((double) getter.invokeExact(bean));
+                    break;
+                case FLOAT:
+                    writer.writeFloat((float) getter.invokeExact(bean));
+                    break;
+                case BOOLEAN:
+                    writer.writeRaw((boolean) getter.invokeExact(bean) ? "true" : "false");
+                    break;
+                default:
+                    binder().writeValue(writer, (Object) getter.invokeExact(bean));
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package cn.langya;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 超出long范围的整数（BigInteger）或超出double范围的小数（BigDecimal）
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class BigNumberNode extends JsonNode {
+    private final Number value;
+
+    public BigNumberNode(BigInteger value) {
+        this((Number) value);
+    }
+
+    public BigNumberNode(BigDecimal value) {
+        this((Number) value);
+    }
+
+    private BigNumberNode(Number value) {
+        super(Kind.BIG_NUMBER);
+        if (value == null) {
+            throw new IllegalArgumentException("数字节点的值不能为null");
+        }
+        this.value = value;
+    }
+
+    /**
+     * @return BigInteger或BigDecimal
+     */
+    public Number numberValue() {
+        return value;
+    }
+
+    /**
+     * @return 低64位，与 BigInteger.longValue 相同
+     */
+    @Override
+    public long longValue() {
+        return value.longValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return value.doubleValue();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof BigNumberNode && value.equals(((BigNumberNode) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+}
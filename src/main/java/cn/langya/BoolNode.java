@@ -0,0 +1,28 @@
+package cn.langya;
+
+/**
+ * 布尔节点，只有 {@link #TRUE} 和 {@link #FALSE} 两个实例
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class BoolNode extends JsonNode {
+    public static final BoolNode TRUE = new BoolNode(true);
+    public static final BoolNode FALSE = new BoolNode(false);
+
+    private final boolean value;
+
+    private BoolNode(boolean value) {
+        super(Kind.BOOLEAN);
+        this.value = value;
+    }
+
+    public static BoolNode valueOf(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    @Override
+    public boolean booleanValue() {
+        return value;
+    }
+}
@@ -0,0 +1,74 @@
+package cn.langya;
+
+import java.lang.ref.SoftReference;
+
+/**
+ * 按线程复用序列化输出缓冲区，稳定状态下每次序列化不再分配新的缓冲区
+ * 每个线程只缓存一个字节缓冲区和一个字符缓冲区，取出后槽位为空，嵌套使用时会分配新的缓冲区；
+ * 超过 {@link #MAX_POOLED} 的缓冲区不会被缓存，避免个别超大输出长期占用内存
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+final class BufferRecycler {
+    static final int MAX_POOLED = 1 << 20;
+
+    private static final ThreadLocal<BufferRecycler> LOCAL = ThreadLocal.withInitial(BufferRecycler::new);
+
+    private SoftReference<byte[]> bytes;
+    /**
+     * 最近一次取出的字节缓冲区的引用，原样归还时复用它，避免每次新建SoftReference
+     */
+    private SoftReference<byte[]> takenBytes;
+    private SoftReference<char[]> chars;
+    private SoftReference<char[]> takenChars;
+
+    private BufferRecycler() {
+    }
+
+    static byte[] acquireBytes(int minSize) {
+        BufferRecycler recycler = LOCAL.get();
+        SoftReference<byte[]> ref = recycler.bytes;
+        byte[] buf = ref == null ? null : ref.get();
+        if (buf == null || buf.length < minSize) {
+            return new byte[minSize];
+        }
+        recycler.bytes = null;
+        recycler.takenBytes = ref;
+        return buf;
+    }
+
+    static void releaseBytes(byte[] buf) {
+        BufferRecycler recycler = LOCAL.get();
+        byte[] pooled = recycler.bytes == null ? null : recycler.bytes.get();
+        if (buf.length > MAX_POOLED || pooled != null && pooled.length >= buf.length) {
+            return;
+        }
+        SoftReference<byte[]> taken = recycler.takenBytes;
+        recycler.bytes = taken != null && taken.get() == buf ? taken : new SoftReference<>(buf);
+        recycler.takenBytes = null;
+    }
+
+    static char[] acquireChars(int minSize) {
+        BufferRecycler recycler = LOCAL.get();
+        SoftReference<char[]> ref = recycler.chars;
+        char[] buf = ref == null ? null : ref.get();
+        if (buf == null || buf.length < minSize) {
+            return new char[minSize];
+        }
+        recycler.chars = null;
+        recycler.takenChars = ref;
+        return buf;
+    }
+
+    static void releaseChars(char[] buf) {
+        BufferRecycler recycler = LOCAL.get();
+        char[] pooled = recycler.chars == null ? null : recycler.chars.get();
+        if (buf.length > MAX_POOLED || pooled != null && pooled.length >= buf.length) {
+            return;
+        }
+        SoftReference<char[]> taken = recycler.takenChars;
+        recycler.chars = taken != null && taken.get() == buf ? taken : new SoftReference<>(buf);
+        recycler.takenChars = null;
+    }
+}
@@ -0,0 +1,178 @@
+package cn.langya;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * 输出字符的JsonWriter，写入一个可复用的字符缓冲区，缓冲区满时整块交给目标Appendable
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+final class CharJsonWriter extends JsonWriter {
+    private final Appendable out;
+    private char[] buf;
+    private int count;
+    /**
+     * 数字先格式化为ASCII字节再拷入字符缓冲区
+     */
+    private final byte[] digits = new byte[NumberFormatter.MAX_LENGTH];
+
+    /**
+     * 写入内存，结果通过 {@link #toString()} 取得
+     */
+    CharJsonWriter() {
+        this.out = null;
+        this.buf = BufferRecycler.acquireChars(JsonSource.BUFFER_SIZE);
+    }
+
+    /**
+     * 写入目标Appendable，写完后需要调用 {@link #flush()}
+     */
+    CharJsonWriter(Appendable out) {
+        this.out = out;
+        this.buf = BufferRecycler.acquireChars(JsonSource.BUFFER_SIZE);
+    }
+
+    @Override
+    void writeAscii(char c) {
+        if (count == buf.length) {
+            drain(1);
+        }
+        buf[count++] = c;
+    }
+
+    @Override
+    void writeLong(long value) {
+        writeDigits(NumberFormatter.writeLong(value, digits, 0));
+    }
+
+    @Override
+    void writeDouble(double value) {
+        writeDigits(NumberFormatter.writeDouble(value, digits, 0));
+    }
+
+    @Override
+    void writeFloat(float value) {
+        writeDigits(NumberFormatter.writeFloat(value, digits, 0));
+    }
+
+    private void writeDigits(int length) {
+        if (buf.length - count < length) {
+            drain(length);
+        }
+        for (int i = 0; i < length; i++) {
+            buf[count++] = (char) digits[i];
+        }
+    }
+
+    @Override
+    void writeRaw(String s) {
+        writeRaw(s, 0, s.length());
+    }
+
+    private void writeRaw(String s, int from, int to) {
+        while (from < to) {
+            if (count == buf.length) {
+                drain(to - from);
+            }
+            int n = Math.min(to - from, buf.length - count);
+            s.getChars(from, from + n, buf, count);
+            count += n;
+            from += n;
+        }
+    }
+
+    @Override
+    void writeString(String value) {
+        writeAscii('"');
+        int length = value.length();
+        int runStart = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 128 && ESCAPES[c] != 0) {
+                writeRaw(value, runStart, i);
+                writeEscape(c);
+                runStart = i + 1;
+            }
+        }
+        writeRaw(value, runStart, length);
+        writeAscii('"');
+    }
+
+    private void writeEscape(char c) {
+        if (buf.length - count < 6) {
+            drain(6);
+        }
+        buf[count++] = '\\';
+        int escape = ESCAPES[c];
+        if (escape > 0) {
+            buf[count++] = (char) escape;
+        } else {
+            buf[count++] = 'u';
+            buf[count++] = '0';
+            buf[count++] = '0';
+            buf[count++] = HEX_DIGITS[c >> 4];
+            buf[count++] = HEX_DIGITS[c & 0xF];
+        }
+    }
+
+    /**
+     * 缓冲区已满：写入内存时扩容，否则把缓冲区内容交给目标
+     */
+    private void drain(int needed) {
+        if (out == null) {
+            char[] grown = new char[Math.max(buf.length * 2, count + needed)];
+            System.arraycopy(buf, 0, grown, 0, count);
+            buf = grown;
+            return;
+        }
+        flushBuffer();
+    }
+
+    private void flushBuffer() {
+        try {
+            if (out instanceof Writer) {
+                ((Writer) out).write(buf, 0, count);
+            } else if (out instanceof StringBuilder) {
+                ((StringBuilder) out).append(buf, 0, count);
+            } else {
+                out.append(CharBuffer.wrap(buf, 0, count));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        count = 0;
+    }
+
+    /**
+     * 把缓冲区中剩余的内容交给目标，目标是Writer时一并刷新
+     */
+    @Override
+    void flush() {
+        if (out == null) {
+            return;
+        }
+        flushBuffer();
+        if (out instanceof Writer) {
+            try {
+                ((Writer) out).flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    void release() {
+        BufferRecycler.releaseChars(buf);
+        buf = null;
+    }
+
+    @Override
+    public String toString() {
+        return new String(buf, 0, count);
+    }
+}
@@ -0,0 +1,171 @@
+package cn.langya;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * 解析结果使用的只读紧凑Map，键和值存放在两个数组中，保持JSON中的顺序
+ * 不像HashMap那样为每个字段分配Entry，小对象的内存占用和遍历开销都更低。
+ * 字段数不超过 {@link #LINEAR_LIMIT} 时线性查找（键来自符号表，通常引用比较即可命中），
+ * 超过时额外建立开放寻址的哈希索引。重复的键保留第一次出现的位置和最后一次出现的值
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+final class CompactMap extends AbstractMap<String, Object> {
+    static final int LINEAR_LIMIT = 8;
+
+    private final String[] keys;
+    private final Object[] values;
+    /**
+     * 哈希索引，存放下标+1，0表示空槽；字段较少时为null
+     */
+    private final int[] table;
+
+    /**
+     * 用 keyBuf、valueBuf 的 [from, to) 区间创建，内容会被复制
+     */
+    CompactMap(String[] keyBuf, Object[] valueBuf, int from, int to) {
+        int n = to - from;
+        String[] ks = new String[n];
+        Object[] vs = new Object[n];
+        int[] index = null;
+        if (n > LINEAR_LIMIT) {
+            int capacity = Integer.highestOneBit(n * 2 - 1) << 1;
+            index = new int[capacity];
+        }
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            String key = keyBuf[i];
+            if (index == null) {
+                int j = linearIndexOf(ks, size, key);
+                if (j >= 0) {
+                    vs[j] = valueBuf[i];
+                    continue;
+                }
+            } else {
+                int slot = slotOf(index, ks, key);
+                if (index[slot] != 0) {
+                    vs[index[slot] - 1] = valueBuf[i];
+                    continue;
+                }
+                index[slot] = size + 1;
+            }
+            ks[size] = key;
+            vs[size] = valueBuf[i];
+            size++;
+        }
+        if (size < n) {
+            ks = Arrays.copyOf(ks, size);
+            vs = Arrays.copyOf(vs, size);
+        }
+        this.keys = ks;
+        this.values = vs;
+        this.table = index;
+    }
+
+    private static int linearIndexOf(String[] keys, int size, Object key) {
+        // 先只比较引用，符号表中的键大多在这一轮命中
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return key 所在的槽位，不存在时返回它应当插入的空槽位
+     */
+    private static int slotOf(int[] table, String[] keys, Object key) {
+        int mask = table.length - 1;
+        int hash = key.hashCode();
+        for (int slot = (hash ^ hash >>> 16) & mask; ; slot = slot + 1 & mask) {
+            int entry = table[slot];
+            if (entry == 0) {
+                return slot;
+            }
+            String k = keys[entry - 1];
+            if (k == key || k.equals(key)) {
+                return slot;
+            }
+        }
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        if (table == null) {
+            return linearIndexOf(keys, keys.length, key);
+        }
+        return table[slotOf(table, keys, key)] - 1;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = indexOf(key);
+        return i < 0 ? null : values[i];
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < keys.length; i++) {
+            action.accept(keys[i], values[i]);
+        }
+    }
+
+    String keyAt(int index) {
+        return keys[index];
+    }
+
+    Object valueAt(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public int size() {
+                return keys.length;
+            }
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < keys.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (next >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        int i = next++;
+                        return new SimpleImmutableEntry<>(keys[i], values[i]);
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package cn.langya;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * 由 double[] 支撑的定长List，解析全是数字且含有小数的JSON数组时使用，每个元素只占8字节，不需要装箱
+ * 通过 {@link #getDouble(int)} 或 {@link #array()} 可以直接读取基本类型，不产生任何对象
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class DoubleList extends AbstractList<Double> implements RandomAccess {
+    private final double[] values;
+
+    DoubleList(double[] values) {
+        this.values = values;
+    }
+
+    /**
+     * @return 指定位置的值，不装箱
+     */
+    public double getDouble(int index) {
+        return values[index];
+    }
+
+    /**
+     * @return 支撑本List的数组，长度等于 {@link #size()}，对数组的修改会反映到List上
+     */
+    public double[] array() {
+        return values;
+    }
+
+    @Override
+    public Double get(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Double set(int index, Double element) {
+        double old = values[index];
+        values[index] = element;
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+}
@@ -0,0 +1,43 @@
+package cn.langya;
+
+/**
+ * 小数节点，值以double保存
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class DoubleNode extends JsonNode {
+    private final double value;
+
+    private DoubleNode(double value) {
+        super(Kind.DOUBLE);
+        this.value = value;
+    }
+
+    public static DoubleNode valueOf(double value) {
+        return new DoubleNode(value);
+    }
+
+    /**
+     * @return 截断小数部分后的值
+     */
+    @Override
+    public long longValue() {
+        return (long) value;
+    }
+
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof DoubleNode && Double.compare(value, ((DoubleNode) o).value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(value);
+    }
+}
@@ -0,0 +1,34 @@
+package cn.langya;
+
+/**
+ * 某个类与JSON之间的转换，通常由 {@link JsonSerializable} 的注解处理器在编译时生成
+ * 实现类在 META-INF/services/cn.langya.JsonBinder 中注册，JsonUtil 通过 ServiceLoader 找到它们，
+ * 找到时优先使用，找不到时才按字段反射绑定。实现类必须是public的，并有public的无参构造器
+ *
+ * @param <T> 负责转换的类
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public interface JsonBinder<T> {
+    /**
+     * @return 负责转换的类，只对这个类本身生效，不包括子类
+     */
+    Class<T> type();
+
+    /**
+     * 读取以读取器当前记号开始的值，读完后当前记号是该值的最后一个记号
+     *
+     * @param reader 读取器，当前记号不是 VALUE_NULL
+     * @return 读取到的对象
+     * @throws IllegalArgumentException JSON与该类不符时抛出
+     */
+    T read(JsonReader reader);
+
+    /**
+     * 写出一个值
+     *
+     * @param generator 生成器
+     * @param value     要写出的对象，不为null
+     */
+    void write(JsonGenerator generator, T value);
+}
@@ -0,0 +1,20 @@
+package cn.langya;
+
+/**
+ * 构建Map/List树时的可选特性，传给 JsonUtil 的解析方法
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public enum JsonFeature {
+    /**
+     * JSON对象解析为只读的紧凑Map，键值存放在数组中并保持原有顺序，适合大量字段很少的小对象；
+     * 修改返回的Map会抛出 UnsupportedOperationException
+     */
+    COMPACT_OBJECT,
+    /**
+     * 全是数字的非空JSON数组解析为由基本类型数组支撑的 {@link LongList} 或 {@link DoubleList}，
+     * 整数和小数混合时统一为 DoubleList；含有其他值或超出long、double范围的数字时仍解析为普通List
+     */
+    PRIMITIVE_ARRAYS
+}
@@ -0,0 +1,114 @@
+package cn.langya;
+
+/**
+ * 逐个写出记号的JSON生成器，与 JsonReader 相对应，供 JsonBinder 的实现使用
+ * 逗号由生成器自动补上，调用方只需按顺序写出键和值；键和字符串值会被正确转义
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class JsonGenerator {
+    private final JsonWriter writer;
+    /**
+     * 下一个键或值之前是否需要逗号
+     */
+    private boolean needComma;
+
+    JsonGenerator(JsonWriter writer) {
+        this.writer = writer;
+    }
+
+    public void beginObject() {
+        comma();
+        writer.writeAscii('{');
+    }
+
+    public void endObject() {
+        writer.writeAscii('}');
+        needComma = true;
+    }
+
+    public void beginArray() {
+        comma();
+        writer.writeAscii('[');
+    }
+
+    public void endArray() {
+        writer.writeAscii(']');
+        needComma = true;
+    }
+
+    /**
+     * 写出对象中的键，之后必须写出一个值
+     */
+    public void name(String name) {
+        comma();
+        writer.writeString(name);
+        writer.writeAscii(':');
+    }
+
+    /**
+     * @param value 字符串，为null时写出 null
+     */
+    public void value(String value) {
+        comma();
+        if (value == null) {
+            writer.writeRaw("null");
+        } else {
+            writer.writeString(value);
+        }
+        needComma = true;
+    }
+
+    public void value(long value) {
+        comma();
+        writer.writeLong(value);
+        needComma = true;
+    }
+
+    /**
+     * NaN和无穷大写成 null
+     */
+    public void value(double value) {
+        comma();
+        writer.writeDouble(value);
+        needComma = true;
+    }
+
+    /**
+     * NaN和无穷大写成 null
+     */
+    public void value(float value) {
+        comma();
+        writer.writeFloat(value);
+        needComma = true;
+    }
+
+    public void value(boolean value) {
+        comma();
+        writer.writeRaw(value ? "true" : "false");
+        needComma = true;
+    }
+
+    /**
+     * 写出任意值，规则同 JsonUtil.toJson
+     */
+    public void value(Object value) {
+        comma();
+        writer.writeValue(value);
+        needComma = true;
+    }
+
+    public void nullValue() {
+        comma();
+        writer.writeRaw("null");
+        needComma = true;
+    }
+
+    private void comma() {
+        if (needComma) {
+            writer.writeAscii(',');
+            needComma = false;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package cn.langya;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 事件驱动解析的回调接口，解析器每读到一个记号就调用对应的方法，不构建任何中间树
+ * 所有方法都有空的默认实现，只需覆盖关心的事件
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public interface JsonHandler {
+    /**
+     * 对象开始
+     */
+    default void startObject() {
+    }
+
+    /**
+     * 对象中的键，紧接着会收到该键对应的值
+     *
+     * @param name 键
+     */
+    default void key(String name) {
+    }
+
+    /**
+     * 对象结束
+     */
+    default void endObject() {
+    }
+
+    /**
+     * 数组开始
+     */
+    default void startArray() {
+    }
+
+    /**
+     * 数组结束
+     */
+    default void endArray() {
+    }
+
+    /**
+     * 整数值
+     *
+     * @param value 值
+     */
+    default void value(long value) {
+    }
+
+    /**
+     * 小数值
+     *
+     * @param value 值
+     */
+    default void value(double value) {
+    }
+
+    /**
+     * 超出long范围的整数值，默认转为double交给 {@link #value(double)}
+     *
+     * @param value 值
+     */
+    default void value(BigInteger value) {
+        value(value.doubleValue());
+    }
+
+    /**
+     * 超出double范围的小数值，默认转为double交给 {@link #value(double)}
+     *
+     * @param value 值
+     */
+    default void value(BigDecimal value) {
+        value(value.doubleValue());
+    }
+
+    /**
+     * 字符串值
+     *
+     * @param value 值
+     */
+    default void value(String value) {
+    }
+
+    /**
+     * 布尔值
+     *
+     * @param value 值
+     */
+    default void value(boolean value) {
+    }
+
+    /**
+     * null值
+     */
+    default void nullValue() {
+    }
+}
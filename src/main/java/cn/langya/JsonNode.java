@@ -0,0 +1,128 @@
+package cn.langya;
+
+/**
+ * 类型化的JSON树节点，作为Map/List模型之外的另一种选择
+ * 标量以基本类型保存，取值时不需要强制转换和拆箱；序列化时按 {@link #kind()} 分派，不再逐个 instanceof。
+ * 类型不符的取值方法抛出 IllegalStateException，{@link #get(String)} 和 {@link #get(int)} 在找不到时返回null
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public abstract class JsonNode {
+    /**
+     * 节点类型
+     */
+    public enum Kind {
+        OBJECT,
+        ARRAY,
+        STRING,
+        LONG,
+        DOUBLE,
+        /**
+         * 超出long范围的整数或超出double范围的小数
+         */
+        BIG_NUMBER,
+        BOOLEAN,
+        NULL
+    }
+
+    final Kind kind;
+
+    JsonNode(Kind kind) {
+        this.kind = kind;
+    }
+
+    public final Kind kind() {
+        return kind;
+    }
+
+    public final boolean isObject() {
+        return kind == Kind.OBJECT;
+    }
+
+    public final boolean isArray() {
+        return kind == Kind.ARRAY;
+    }
+
+    public final boolean isString() {
+        return kind == Kind.STRING;
+    }
+
+    public final boolean isNumber() {
+        return kind == Kind.LONG || kind == Kind.DOUBLE || kind == Kind.BIG_NUMBER;
+    }
+
+    public final boolean isBoolean() {
+        return kind == Kind.BOOLEAN;
+    }
+
+    public final boolean isNull() {
+        return kind == Kind.NULL;
+    }
+
+    /**
+     * @return 对象中指定键的值，不存在或本节点不是对象时返回null
+     */
+    public JsonNode get(String name) {
+        return null;
+    }
+
+    /**
+     * @return 数组中指定位置的值，越界或本节点不是数组时返回null
+     */
+    public JsonNode get(int index) {
+        return null;
+    }
+
+    /**
+     * @return 对象的字段数或数组的元素数，其他节点为0
+     */
+    public int size() {
+        return 0;
+    }
+
+    public String stringValue() {
+        throw typeError("字符串");
+    }
+
+    public long longValue() {
+        throw typeError("数字");
+    }
+
+    /**
+     * @return int值，超出范围时抛出异常
+     */
+    public int intValue() {
+        long value = longValue();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalStateException("整数超出int范围: " + value);
+        }
+        return (int) value;
+    }
+
+    public double doubleValue() {
+        throw typeError("数字");
+    }
+
+    public boolean booleanValue() {
+        throw typeError("布尔值");
+    }
+
+    IllegalStateException typeError(String expected) {
+        return new IllegalStateException("节点类型为 " + kind + "，不是" + expected);
+    }
+
+    /**
+     * @return 本节点的JSON文本
+     */
+    @Override
+    public String toString() {
+        CharJsonWriter writer = new CharJsonWriter();
+        try {
+            writer.writeNode(this);
+            return writer.toString();
+        } finally {
+            writer.release();
+        }
+    }
+}
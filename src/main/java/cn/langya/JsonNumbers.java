@@ -0,0 +1,241 @@
+package cn.langya;
+
+import java.math.BigInteger;
+
+/**
+ * 数字解析的公共部分，JsonReader 和 NonBlockingJsonParser 共用
+ * 扫描时逐位把数字累加成十进制尾数（最多19位有效数字）和十进制指数，不创建子串；
+ * 转换为double时能精确表示的情况走Clinger快速路径，其余使用Eisel-Lemire算法（128位的5的幂表），
+ * 只有尾数被截断且结果无法确定时才退回 Double.parseDouble
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+final class JsonNumbers {
+    /**
+     * 尾数最多保留的有效数字位数，19位十进制数一定能放进无符号64位
+     */
+    static final int MAX_MANTISSA_DIGITS = 19;
+    /**
+     * 指数部分累加的上限，再大的指数结果也只会是0或无穷大
+     */
+    static final int MAX_EXPONENT = 100000;
+
+    private static final int SMALLEST_POWER_OF_TEN = -342;
+    private static final int LARGEST_POWER_OF_TEN = 308;
+
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * 5^q 归一化到128位后的高64位和低64位，q 从 -342 到 308，负指数向上取整，正指数截断
+     */
+    private static final long[] POWERS_OF_FIVE = new long[2 * (LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1)];
+
+    static {
+        BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+        int index = 0;
+        for (int q = SMALLEST_POWER_OF_TEN; q <= LARGEST_POWER_OF_TEN; q++) {
+            BigInteger c;
+            if (q < 0) {
+                BigInteger power5 = BigInteger.valueOf(5).pow(-q);
+                int z = power5.subtract(BigInteger.ONE).bitLength(); // 满足 2^z >= 5^-q 的最小z
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                c = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+                while (c.compareTo(two128) >= 0) {
+                    c = c.shiftRight(1);
+                }
+            } else {
+                c = BigInteger.valueOf(5).pow(q);
+                int bits = c.bitLength();
+                c = bits <= 128 ? c.shiftLeft(128 - bits) : c.shiftRight(bits - 128);
+            }
+            POWERS_OF_FIVE[index++] = c.shiftRight(64).longValue();
+            POWERS_OF_FIVE[index++] = c.longValue();
+        }
+    }
+
+    private JsonNumbers() {
+    }
+
+    /**
+     * 逐位累加一个数字，每个解析器持有一个并在每个数字开始时重置
+     */
+    static final class Accumulator {
+        private boolean negative;
+        /**
+         * 无符号的十进制尾数，不含前导零
+         */
+        private long mantissa;
+        private int digits;
+        private long exp10;
+        /**
+         * 超出19位之后是否舍弃过非零数字
+         */
+        private boolean truncated;
+
+        void reset(boolean negative) {
+            this.negative = negative;
+            mantissa = 0;
+            digits = 0;
+            exp10 = 0;
+            truncated = false;
+        }
+
+        void integerDigit(int digit) {
+            if (mantissa == 0 && digit == 0) {
+                return;
+            }
+            if (digits < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + digit;
+                digits++;
+            } else {
+                exp10++;
+                truncated |= digit != 0;
+            }
+        }
+
+        void fractionDigit(int digit) {
+            if (mantissa == 0 && digit == 0) {
+                exp10--;
+                return;
+            }
+            if (digits < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + digit;
+                digits++;
+                exp10--;
+            } else {
+                truncated |= digit != 0;
+            }
+        }
+
+        /**
+         * @param exponent 指数部分的值，调用方需把绝对值限制在 {@link #MAX_EXPONENT} 以内
+         */
+        void exponent(int exponent) {
+            exp10 += exponent;
+        }
+
+        /**
+         * @return 整数是否能放进long，只对没有小数和指数部分的数字有意义
+         */
+        boolean fitsLong() {
+            return exp10 == 0 && (mantissa >= 0 || negative && mantissa == Long.MIN_VALUE);
+        }
+
+        long longValue() {
+            return negative ? -mantissa : mantissa;
+        }
+
+        /**
+         * @return 最接近的double，无法确定时返回NaN
+         */
+        double doubleValue() {
+            // 指数超出表的范围很多时结果已经确定是0或无穷大，收窄到int不影响结果
+            int q = (int) Math.max(Math.min(exp10, MAX_EXPONENT), -MAX_EXPONENT);
+            return toDouble(negative, mantissa, q, truncated);
+        }
+    }
+
+    /**
+     * 计算 ±mantissa × 10^exp10 最接近的double
+     *
+     * @param mantissa  无符号64位十进制尾数
+     * @param exp10     十进制指数
+     * @param truncated 尾数之后是否还有被舍弃的非零数字
+     * @return 转换结果，无法确定正确舍入时返回NaN
+     */
+    static double toDouble(boolean negative, long mantissa, int exp10, boolean truncated) {
+        double result;
+        if (!truncated) {
+            result = toDouble(mantissa, exp10);
+        } else {
+            // 真实值位于 mantissa 与 mantissa+1 之间，两端舍入到同一个double时结果才确定
+            result = toDouble(mantissa, exp10);
+            if (result != toDouble(mantissa + 1, exp10)) {
+                return Double.NaN;
+            }
+        }
+        return negative ? -result : result;
+    }
+
+    private static double toDouble(long w, int q) {
+        if (w == 0 || q < SMALLEST_POWER_OF_TEN) {
+            return 0.0;
+        }
+        if (q > LARGEST_POWER_OF_TEN) {
+            return Double.POSITIVE_INFINITY;
+        }
+        // Clinger快速路径：尾数和10的幂都能被double精确表示时，一次乘除即得正确舍入的结果
+        if (w > 0 && w <= 1L << 53 && q >= -22 && q <= 22) {
+            return q < 0 ? w / EXACT_POWERS_OF_TEN[-q] : w * EXACT_POWERS_OF_TEN[q];
+        }
+        return eiselLemire(w, q);
+    }
+
+    /**
+     * Eisel-Lemire算法，w 为非零的无符号64位尾数，q 在表的范围内
+     */
+    private static double eiselLemire(long w, int q) {
+        int lz = Long.numberOfLeadingZeros(w);
+        w <<= lz;
+        int index = 2 * (q - SMALLEST_POWER_OF_TEN);
+        long high = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index]);
+        long low = w * POWERS_OF_FIVE[index];
+        if ((high & 0x1FF) == 0x1FF) {
+            // 低9位全为1时高64位可能不够精确，再乘上表中的低64位
+            long secondHigh = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                high++;
+            }
+        }
+        int upperBit = (int) (high >>> 63);
+        int shift = upperBit + 9;
+        long mantissa = high >>> shift;
+        int power2 = (((152170 + 65536) * q) >> 16) + 63 + upperBit - lz + 1023;
+        if (power2 <= 0) {
+            // 非规格化数
+            if (-power2 + 1 >= 64) {
+                return 0.0;
+            }
+            mantissa >>>= -power2 + 1;
+            mantissa += mantissa & 1;
+            mantissa >>>= 1;
+            power2 = mantissa < 1L << 52 ? 0 : 1;
+            return Double.longBitsToDouble((long) power2 << 52 | mantissa & ((1L << 52) - 1));
+        }
+        // 恰好位于两个double正中间时向偶数舍入
+        if (Long.compareUnsigned(low, 1) <= 0 && q >= -4 && q <= 23 && (mantissa & 3) == 1
+                && mantissa << shift == high) {
+            mantissa &= ~1L;
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= 2L << 52) {
+            mantissa = 1L << 52;
+            power2++;
+        }
+        mantissa &= ~(1L << 52);
+        if (power2 >= 0x7FF) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return Double.longBitsToDouble((long) power2 << 52 | mantissa);
+    }
+
+    /**
+     * 无符号64位乘法结果的高64位（JDK 8 没有 Math.multiplyHigh）
+     */
+    static long unsignedMultiplyHigh(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL;
+        long y1 = y >>> 32;
+        long p00 = x0 * y0;
+        long t = x1 * y0 + (p00 >>> 32);
+        long mid = x0 * y1 + (t & 0xFFFFFFFFL);
+        return x1 * y1 + (t >>> 32) + (mid >>> 32);
+    }
+}
@@ -0,0 +1,382 @@
+package cn.langya;
+
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * 在 JsonReader 的记号流之上构建Map/List树的解析器
+ * 整个输入只扫描一遍，直接构建Map/List树，不再为每一层嵌套复制子串
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+final class JsonParser {
+    /**
+     * {@link #nextLineValue()} 在输入结束时返回的标记
+     */
+    static final Object END = new Object();
+
+    private final JsonReader reader;
+    private final boolean compactObjects;
+    private final boolean primitiveArrays;
+
+    /**
+     * 紧凑对象的字段暂存区，嵌套的对象按栈的方式依次使用
+     */
+    private String[] keyBuf;
+    private Object[] valueBuf;
+    private int bufTop;
+    /**
+     * 逐行读取时是否已经读过一个值
+     */
+    private boolean afterValue;
+
+    JsonParser(JsonSource src, JsonFeature... features) {
+        this(new JsonReader(src), features);
+    }
+
+    /**
+     * 在已有的读取器上构建树，供只需要读取其中一个值的调用方使用
+     */
+    JsonParser(JsonReader reader, JsonFeature... features) {
+        this.reader = reader;
+        boolean compact = false;
+        boolean primitive = false;
+        for (JsonFeature feature : features) {
+            if (feature == JsonFeature.COMPACT_OBJECT) {
+                compact = true;
+            } else if (feature == JsonFeature.PRIMITIVE_ARRAYS) {
+                primitive = true;
+            }
+        }
+        this.compactObjects = compact;
+        this.primitiveArrays = primitive;
+    }
+
+    /**
+     * 解析整个输入，顶层必须是对象或数组
+     *
+     * @return 解析后的对象（Map 或 List）
+     */
+    Object parseDocument() {
+        JsonToken token = reader.nextToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+            throw reader.error("无效的JSON字符串");
+        }
+        Object result = readValue(token);
+        finish();
+        return result;
+    }
+
+    /**
+     * 解析整个输入，顶层必须是对象
+     *
+     * @return 表示JSON对象的Map
+     */
+    Map<String, Object> parseObjectDocument() {
+        if (reader.nextToken() != JsonToken.START_OBJECT) {
+            throw reader.error("无效的JSON对象");
+        }
+        Map<String, Object> result = readObject();
+        finish();
+        return result;
+    }
+
+    /**
+     * 解析整个输入，顶层必须是数组
+     *
+     * @return 表示JSON数组的List
+     */
+    List<Object> parseArrayDocument() {
+        if (reader.nextToken() != JsonToken.START_ARRAY) {
+            throw reader.error("无效的JSON数组");
+        }
+        List<Object> result = readArray();
+        finish();
+        return result;
+    }
+
+    /**
+     * 读取每行一个值的输入（NDJSON）中的下一个值，顶层可以是任意JSON值，空行被跳过
+     *
+     * @return 下一个值，输入结束时返回 {@link #END}
+     */
+    Object nextLineValue() {
+        if (afterValue && !reader.nextLine()) {
+            return END;
+        }
+        JsonToken token = reader.nextToken();
+        if (token == null) {
+            return END;
+        }
+        afterValue = true;
+        return readValue(token);
+    }
+
+    /**
+     * 读取以读取器当前记号开始的值，读完后当前记号是该值的最后一个记号
+     *
+     * @return Map、List、String、Number、Boolean或null
+     */
+    Object readCurrent() {
+        return readValue(reader.currentToken());
+    }
+
+    /**
+     * 读取以读取器当前记号开始的值，构建为JsonNode
+     */
+    JsonNode readCurrentNode() {
+        return readNode(reader.currentToken());
+    }
+
+    /**
+     * 解析顶层数组中的一段，输入是以逗号分隔的 count 个元素，不含两端的括号
+     *
+     * @return 各元素的解析结果
+     */
+    List<Object> parseArrayElements(int count) {
+        reader.beginArrayContent();
+        List<Object> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(readValue(reader.nextToken()));
+        }
+        if (!reader.atEnd()) {
+            throw reader.error("JSON数组缺少 ',' 或 ']'");
+        }
+        return result;
+    }
+
+    /**
+     * 解析整个输入为JsonNode树，顶层可以是任意JSON值
+     */
+    JsonNode parseTreeDocument() {
+        JsonToken token = reader.nextToken();
+        if (token == null) {
+            throw reader.error("无效的JSON字符串");
+        }
+        JsonNode result = readNode(token);
+        finish();
+        return result;
+    }
+
+    private JsonNode readNode(JsonToken token) {
+        switch (token) {
+            case START_OBJECT:
+                ObjectNode object = new ObjectNode();
+                while (reader.nextToken() == JsonToken.FIELD_NAME) {
+                    String key = reader.currentName();
+                    object.put(key, readNode(reader.nextToken()));
+                }
+                return object;
+            case START_ARRAY:
+                ArrayNode array = new ArrayNode();
+                JsonToken element;
+                while ((element = reader.nextToken()) != JsonToken.END_ARRAY) {
+                    array.add(readNode(element));
+                }
+                return array;
+            case VALUE_STRING:
+                return new StringNode(reader.getString());
+            case VALUE_NUMBER_INT:
+                if (reader.fitsLong()) {
+                    return LongNode.valueOf(reader.getLong());
+                }
+                return new BigNumberNode((BigInteger) reader.getNumber());
+            case VALUE_NUMBER_FLOAT:
+                double value = reader.getDouble();
+                if (Double.isInfinite(value)) {
+                    return new BigNumberNode(reader.getBigDecimal());
+                }
+                return DoubleNode.valueOf(value);
+            case VALUE_TRUE:
+                return BoolNode.TRUE;
+            case VALUE_FALSE:
+                return BoolNode.FALSE;
+            case VALUE_NULL:
+                return NullNode.INSTANCE;
+            default:
+                throw reader.error("无效的JSON值");
+        }
+    }
+
+    private Object readValue(JsonToken token) {
+        switch (token) {
+            case START_OBJECT:
+                return readObject();
+            case START_ARRAY:
+                return readArray();
+            case VALUE_STRING:
+                return reader.getString();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return reader.getNumber();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                throw reader.error("无效的JSON值");
+        }
+    }
+
+    private Map<String, Object> readObject() {
+        if (compactObjects) {
+            return readCompactObject();
+        }
+        Map<String, Object> result = new HashMap<>();
+        while (reader.nextToken() == JsonToken.FIELD_NAME) {
+            String key = reader.currentName();
+            result.put(key, readValue(reader.nextToken()));
+        }
+        return result;
+    }
+
+    /**
+     * 字段先压入暂存区，对象结束时一次性复制成 CompactMap
+     */
+    private Map<String, Object> readCompactObject() {
+        if (keyBuf == null) {
+            keyBuf = new String[32];
+            valueBuf = new Object[32];
+        }
+        int from = bufTop;
+        while (reader.nextToken() == JsonToken.FIELD_NAME) {
+            String key = reader.currentName();
+            Object value = readValue(reader.nextToken());
+            if (bufTop == keyBuf.length) {
+                keyBuf = Arrays.copyOf(keyBuf, bufTop * 2);
+                valueBuf = Arrays.copyOf(valueBuf, bufTop * 2);
+            }
+            keyBuf[bufTop] = key;
+            valueBuf[bufTop++] = value;
+        }
+        Map<String, Object> result = new CompactMap(keyBuf, valueBuf, from, bufTop);
+        Arrays.fill(valueBuf, from, bufTop, null);
+        bufTop = from;
+        return result;
+    }
+
+    private List<Object> readArray() {
+        if (primitiveArrays) {
+            return readPrimitiveArray();
+        }
+        List<Object> result = new ArrayList<>();
+        JsonToken token;
+        while ((token = reader.nextToken()) != JsonToken.END_ARRAY) {
+            result.add(readValue(token));
+        }
+        return result;
+    }
+
+    /**
+     * 先假定数组全是数字，直接填入 long[]，遇到小数时转为 double[]，并用位图记下哪些位置原本是整数；
+     * 遇到其他值或无法用double精确表示的整数时，把已读的元素按原来的类型装箱，剩余部分按普通数组读取
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> readPrimitiveArray() {
+        long[] longs = null;
+        double[] doubles = null;
+        // 转为 double[] 之后，第i位表示 doubles[i] 是否来自整数
+        long[] intSlots = null;
+        int size = 0;
+        JsonToken token;
+        while ((token = reader.nextToken()) == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            if (token == JsonToken.VALUE_NUMBER_INT && !reader.fitsLong()) {
+                break;
+            }
+            if (doubles == null && token == JsonToken.VALUE_NUMBER_INT) {
+                if (longs == null) {
+                    longs = new long[16];
+                } else if (size == longs.length) {
+                    longs = Arrays.copyOf(longs, size * 2);
+                }
+                longs[size++] = reader.getLong();
+                continue;
+            }
+            double value;
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                long l = reader.getLong();
+                if (!exactDouble(l)) {
+                    break;
+                }
+                value = l;
+            } else {
+                value = reader.getDouble();
+                if (Double.isInfinite(value)) {
+                    break;
+                }
+            }
+            if (doubles == null) {
+                doubles = toDoubles(longs, size);
+                if (doubles == null) {
+                    break;
+                }
+                intSlots = new long[(doubles.length + 63) >>> 6];
+                for (int i = 0; i < size; i++) {
+                    intSlots[i >>> 6] |= 1L << i;
+                }
+                longs = null;
+            } else if (size == doubles.length) {
+                doubles = Arrays.copyOf(doubles, size * 2);
+                intSlots = Arrays.copyOf(intSlots, (size * 2 + 63) >>> 6);
+            }
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                intSlots[size >>> 6] |= 1L << size;
+            }
+            doubles[size++] = value;
+        }
+        if (token == JsonToken.END_ARRAY && size > 0) {
+            List<?> result = doubles != null
+                    ? new DoubleList(Arrays.copyOf(doubles, size))
+                    : new LongList(Arrays.copyOf(longs, size));
+            return (List<Object>) result;
+        }
+        List<Object> result = new ArrayList<>(Math.max(size + 1, 10));
+        for (int i = 0; i < size; i++) {
+            if (doubles != null && (intSlots[i >>> 6] & 1L << i) == 0) {
+                result.add(doubles[i]);
+                continue;
+            }
+            long l = doubles != null ? (long) doubles[i] : longs[i];
+            if (l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE) {
+                result.add((int) l);
+            } else {
+                result.add(l);
+            }
+        }
+        for (; token != JsonToken.END_ARRAY; token = reader.nextToken()) {
+            result.add(readValue(token));
+        }
+        return result;
+    }
+
+    /**
+     * 把已读的整数转为 double[]，并留出至少一个空位；有整数无法用double精确表示时返回null
+     */
+    private static double[] toDoubles(long[] longs, int size) {
+        double[] doubles = new double[Math.max(size * 2, 16)];
+        for (int i = 0; i < size; i++) {
+            if (!exactDouble(longs[i])) {
+                return null;
+            }
+            doubles[i] = longs[i];
+        }
+        return doubles;
+    }
+
+    /**
+     * @return 整数的绝对值不超过2^53，能用double精确表示
+     */
+    private static boolean exactDouble(long value) {
+        return value <= 1L << 53 && value >= -(1L << 53);
+    }
+
+    /**
+     * 确认顶层值之后只剩空白字符
+     */
+    private void finish() {
+        reader.nextToken();
+    }
+}
@@ -0,0 +1,837 @@
+package cn.langya;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * 拉取式JSON读取器，每次调用 {@link #nextToken()} 返回一个记号，调用方按需取值，不构建Map/List树
+ * JsonUtil的所有解析方法都建立在它之上，整个库只有这一个分词器。
+ * 记号通过字符类别表按首字符分类并在一次扫描内完成校验；字符串只记录位置，数字只累加尾数和指数，
+ * 直到调用 {@link #getString()}、{@link #getDouble()} 等方法时才转换，跳过的字段几乎没有开销
+ * <p>
+ * 取值方法只在返回该记号之后、下一次调用 {@link #nextToken()} 之前有效
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class JsonReader {
+    static final byte C_OTHER = 0;
+    static final byte C_WS = 1;
+    static final byte C_DIGIT = 2;
+    static final byte C_MINUS = 3;
+    static final byte C_QUOTE = 4;
+    static final byte C_STRUCT = 5;
+    static final byte C_LITERAL = 6;
+
+    /**
+     * ASCII字符类别表，非ASCII字符一律视为 C_OTHER
+     */
+    static final byte[] CHAR_CLASS = new byte[128];
+
+    static {
+        CHAR_CLASS[' '] = C_WS;
+        CHAR_CLASS['\t'] = C_WS;
+        CHAR_CLASS['\n'] = C_WS;
+        CHAR_CLASS['\r'] = C_WS;
+        for (char c = '0'; c <= '9'; c++) {
+            CHAR_CLASS[c] = C_DIGIT;
+        }
+        CHAR_CLASS['-'] = C_MINUS;
+        CHAR_CLASS['"'] = C_QUOTE;
+        for (char c : "{}[]:,".toCharArray()) {
+            CHAR_CLASS[c] = C_STRUCT;
+        }
+        CHAR_CLASS['t'] = C_LITERAL;
+        CHAR_CLASS['f'] = C_LITERAL;
+        CHAR_CLASS['n'] = C_LITERAL;
+    }
+
+    // 嵌套上下文的状态
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int NONEMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private final JsonSource src;
+    private int limit;
+    private int pos;
+    /**
+     * 正在读取的记号的起始下标，没有时为-1；补充数据时从这里开始保留
+     */
+    private int tokenStart = -1;
+    /**
+     * 最近一个值记号第一个字符的下标，字符串包含开头的引号
+     */
+    private int valueBegin;
+
+    private int[] stack = new int[32];
+    /**
+     * 每层对象最近读到的键
+     */
+    private String[] names = new String[32];
+    private int depth = 1;
+
+    private JsonToken token;
+    /**
+     * 跳过子结构时不需要物化键
+     */
+    private boolean skipping;
+    /**
+     * 当前字符串或数字在缓冲区中的区间
+     */
+    private int valueStart;
+    private int valueEnd;
+    private String stringValue;
+    /**
+     * 当前字符串中是否出现过反斜杠
+     */
+    private boolean valueEscaped;
+    /**
+     * 解码含转义的字符串时复用的缓冲区
+     */
+    private StringBuilder scratch;
+    /**
+     * 对象键的符号表，读到第一个键时创建
+     */
+    private SymbolTable symbols;
+    /**
+     * 当前数字累加出的尾数和指数
+     */
+    private final JsonNumbers.Accumulator number = new JsonNumbers.Accumulator();
+
+    public JsonReader(String json) {
+        this(JsonSource.of(json));
+    }
+
+    public JsonReader(byte[] utf8) {
+        this(JsonSource.of(utf8, 0, utf8.length));
+    }
+
+    public JsonReader(byte[] utf8, int offset, int length) {
+        this(JsonSource.of(utf8, offset, length));
+    }
+
+    /**
+     * @param in UTF-8编码的输入流，由调用方负责关闭
+     */
+    public JsonReader(InputStream in) {
+        this(JsonSource.of(in));
+    }
+
+    /**
+     * @param reader 字符输入，由调用方负责关闭
+     */
+    public JsonReader(Reader reader) {
+        this(JsonSource.of(reader));
+    }
+
+    JsonReader(JsonSource src) {
+        this.src = src;
+        this.limit = src.limit;
+        this.pos = src.start;
+        this.stack[0] = EMPTY_DOCUMENT;
+    }
+
+    static byte charClass(int c) {
+        return c < 128 ? CHAR_CLASS[c] : C_OTHER;
+    }
+
+    /**
+     * 读取下一个记号
+     *
+     * @return 下一个记号，顶层值读完且输入结束时返回null
+     * @throws IllegalArgumentException JSON格式错误时抛出
+     */
+    public JsonToken nextToken() {
+        stringValue = null;
+        int c;
+        switch (stack[depth - 1]) {
+            case EMPTY_DOCUMENT:
+                if (!skipWhitespace()) {
+                    return token = null;
+                }
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                return token = readValue();
+            case NONEMPTY_DOCUMENT:
+                if (skipWhitespace()) {
+                    throw error("JSON值之后存在多余内容");
+                }
+                return token = null;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                c = nextNonWhitespace();
+                if (c == '}') {
+                    pos++;
+                    names[--depth] = null;
+                    return token = JsonToken.END_OBJECT;
+                }
+                if (stack[depth - 1] == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw error("JSON对象缺少 ',' 或 '}'");
+                    }
+                    pos++;
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw error("JSON对象的键必须是字符串");
+                }
+                scanString();
+                names[depth - 1] = skipping ? null : keyText();
+                stack[depth - 1] = DANGLING_NAME;
+                return token = JsonToken.FIELD_NAME;
+            case DANGLING_NAME:
+                if (nextNonWhitespace() != ':') {
+                    throw error("此处应为 ':'");
+                }
+                pos++;
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                nextNonWhitespace();
+                return token = readValue();
+            case EMPTY_ARRAY:
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                if (nextNonWhitespace() == ']') {
+                    pos++;
+                    depth--;
+                    return token = JsonToken.END_ARRAY;
+                }
+                return token = readValue();
+            default: // NONEMPTY_ARRAY
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    pos++;
+                    depth--;
+                    return token = JsonToken.END_ARRAY;
+                }
+                if (c != ',') {
+                    throw error("JSON数组缺少 ',' 或 ']'");
+                }
+                pos++;
+                nextNonWhitespace();
+                return token = readValue();
+        }
+    }
+
+    /**
+     * @return 最近一次 {@link #nextToken()} 返回的记号
+     */
+    public JsonToken currentToken() {
+        return token;
+    }
+
+    /**
+     * @return 当前键；当前记号是对象中的值时返回该值对应的键，不在对象中时返回null
+     */
+    public String currentName() {
+        int d = depth - 1;
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            d--;
+        }
+        if (d < 0 || stack[d] != NONEMPTY_OBJECT && stack[d] != DANGLING_NAME) {
+            return null;
+        }
+        return names[d];
+    }
+
+    /**
+     * 当前记号是对象或数组的开始时，跳过其全部内容，之后的当前记号是对应的结束记号；其他记号不做任何处理
+     */
+    public void skipChildren() {
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+            return;
+        }
+        int target = depth - 1;
+        skipping = true;
+        try {
+            while (depth > target) {
+                nextToken();
+            }
+        } finally {
+            skipping = false;
+        }
+    }
+
+    /**
+     * 确认当前记号是 expected
+     *
+     * @throws IllegalArgumentException 当前记号不是 expected 时抛出
+     */
+    public void expect(JsonToken expected) {
+        if (token != expected) {
+            throw error("期望 " + expected + "，实际为 " + token);
+        }
+    }
+
+    /**
+     * 读取以当前记号开始的值并绑定为 type，规则同 JsonUtil.parse(String, Class)；
+     * 读完后当前记号是该值的最后一个记号
+     *
+     * @param type 目标类型
+     * @return 绑定后的对象，当前记号为null时返回null
+     * @throws IllegalArgumentException 值与目标类型不符时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(Class<T> type) {
+        return (T) TypeBinder.of(type).readValue(this);
+    }
+
+    /**
+     * 把读取器置于顶层数组内部、尚未读到任何元素的状态，输入是去掉了两端括号的数组内容，
+     * 之后的 {@link #nextToken()} 依次返回各个元素，逗号照常检查
+     */
+    void beginArrayContent() {
+        stack[0] = NONEMPTY_DOCUMENT;
+        push(EMPTY_ARRAY);
+    }
+
+    /**
+     * 读完一个顶层值之后，准备读取下一行的顶层值，供每行一个值的NDJSON输入使用
+     *
+     * @return 之后是否还有值
+     * @throws IllegalArgumentException 下一个值与上一个值在同一行时抛出
+     */
+    boolean nextLine() {
+        boolean newline = false;
+        while (pos < limit || more()) {
+            int c = src.at(pos);
+            if (c == '\n') {
+                newline = true;
+            } else if (charClass(c) != C_WS) {
+                if (!newline) {
+                    throw error("JSON值之后存在多余内容");
+                }
+                stack[0] = EMPTY_DOCUMENT;
+                return true;
+            }
+            pos++;
+        }
+        return false;
+    }
+
+    /**
+     * @return 跳过空白后是否已到达输入末尾
+     */
+    boolean atEnd() {
+        return !skipWhitespace();
+    }
+
+    /**
+     * @return 当前值记号第一个字符在缓冲区中的下标，只对整体在内存中的输入有意义
+     */
+    int tokenBegin() {
+        return valueBegin;
+    }
+
+    /**
+     * @return 已读取到的缓冲区下标，即当前记号之后的第一个字符
+     */
+    int position() {
+        return pos;
+    }
+
+    /**
+     * 之后读到的键不再取出字符串，{@link #currentName()} 返回null，调用方通过 {@link #stringStart()} 等自行记录键的区间
+     */
+    void skipNames() {
+        skipping = true;
+    }
+
+    /**
+     * @return 当前字符串（或键）的内容在缓冲区中的起始下标，不含引号；当前记号是数字时为数字的起始下标
+     */
+    int stringStart() {
+        return valueStart;
+    }
+
+    /**
+     * @return 当前字符串（或键）的内容在缓冲区中的结束下标，不含引号；当前记号是数字时为数字的结束下标
+     */
+    int stringEnd() {
+        return valueEnd;
+    }
+
+    /**
+     * @return 当前字符串（或键）中是否含有转义
+     */
+    boolean stringEscaped() {
+        return valueEscaped;
+    }
+
+    /**
+     * @return 当前字符串值；当前记号是键时返回键
+     */
+    public String getString() {
+        if (token == JsonToken.FIELD_NAME) {
+            return names[depth - 1];
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            throw error("当前记号不是字符串: " + token);
+        }
+        if (stringValue == null) {
+            stringValue = stringText();
+        }
+        return stringValue;
+    }
+
+    /**
+     * @return 当前数字的long值，小数会被截断
+     */
+    public long getLong() {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            if (!number.fitsLong()) {
+                throw error("整数超出long范围: " + src.text(valueStart, valueEnd));
+            }
+            return number.longValue();
+        }
+        return (long) getDouble();
+    }
+
+    /**
+     * @return 当前数字的int值，超出范围时抛出异常
+     */
+    public int getInt() {
+        long value = getLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw error("整数超出int范围: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * @return 当前数字最接近的double值
+     */
+    public double getDouble() {
+        if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT) {
+            throw error("当前记号不是数字: " + token);
+        }
+        double value = number.doubleValue();
+        if (Double.isNaN(value)) {
+            value = Double.parseDouble(src.text(valueStart, valueEnd));
+        }
+        return value;
+    }
+
+    /**
+     * @return 当前数字的精确值
+     */
+    public BigDecimal getBigDecimal() {
+        if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT) {
+            throw error("当前记号不是数字: " + token);
+        }
+        return new BigDecimal(src.text(valueStart, valueEnd));
+    }
+
+    /**
+     * 按数值大小装箱：整数依次尝试Integer、Long、BigInteger；
+     * 小数为Double，超出double范围时为BigDecimal
+     *
+     * @return 当前数字的装箱值
+     */
+    public Number getNumber() {
+        if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT) {
+            throw error("当前记号不是数字: " + token);
+        }
+        return toNumber(src, valueStart, valueEnd, number, token == JsonToken.VALUE_NUMBER_INT);
+    }
+
+    /**
+     * 解析 [from, to) 区间中已经校验过的数字，装箱规则同 {@link #getNumber()}，
+     * 供只记录了数字位置、之后再取值的调用方使用，不创建读取器
+     *
+     * @param number 复用的累加器
+     */
+    static Number parseNumber(JsonSource src, int from, int to, JsonNumbers.Accumulator number) {
+        int i = from;
+        boolean negative = src.at(i) == '-';
+        if (negative) {
+            i++;
+        }
+        number.reset(negative);
+        int c = 0;
+        while (i < to && (c = src.at(i)) >= '0' && c <= '9') {
+            number.integerDigit(c - '0');
+            i++;
+        }
+        if (i == to) {
+            return toNumber(src, from, to, number, true);
+        }
+        if (c == '.') {
+            while (++i < to && (c = src.at(i)) >= '0' && c <= '9') {
+                number.fractionDigit(c - '0');
+            }
+        }
+        if (i < to) {
+            // 指数部分
+            boolean negativeExponent = src.at(++i) == '-';
+            if (negativeExponent || src.at(i) == '+') {
+                i++;
+            }
+            int exponent = 0;
+            for (; i < to; i++) {
+                if (exponent < JsonNumbers.MAX_EXPONENT) {
+                    exponent = exponent * 10 + src.at(i) - '0';
+                }
+            }
+            number.exponent(negativeExponent ? -exponent : exponent);
+        }
+        return toNumber(src, from, to, number, false);
+    }
+
+    /**
+     * 把累加出的数字装箱，[from, to) 是数字原文，只在超出long或double范围时使用
+     */
+    private static Number toNumber(JsonSource src, int from, int to, JsonNumbers.Accumulator number, boolean integer) {
+        if (integer) {
+            if (!number.fitsLong()) {
+                return new BigInteger(src.text(from, to));
+            }
+            long value = number.longValue();
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+            return value;
+        }
+        double value = number.doubleValue();
+        if (Double.isNaN(value)) {
+            value = Double.parseDouble(src.text(from, to));
+        }
+        if (Double.isInfinite(value)) {
+            return new BigDecimal(src.text(from, to));
+        }
+        return value;
+    }
+
+    /**
+     * @return 当前整数是否能放进long
+     */
+    boolean fitsLong() {
+        return token == JsonToken.VALUE_NUMBER_INT && number.fitsLong();
+    }
+
+    /**
+     * @return 当前布尔值
+     */
+    public boolean getBoolean() {
+        if (token == JsonToken.VALUE_TRUE) {
+            return true;
+        } else if (token == JsonToken.VALUE_FALSE) {
+            return false;
+        }
+        throw error("当前记号不是布尔值: " + token);
+    }
+
+    /**
+     * 根据首字符读取一个值，对象和数组只读取开始记号
+     */
+    private JsonToken readValue() {
+        valueBegin = pos;
+        int c = src.at(pos);
+        switch (charClass(c)) {
+            case C_QUOTE:
+                scanString();
+                return JsonToken.VALUE_STRING;
+            case C_DIGIT:
+            case C_MINUS:
+                return scanNumber();
+            case C_LITERAL:
+                if (c == 't') {
+                    scanLiteral("true");
+                    return JsonToken.VALUE_TRUE;
+                } else if (c == 'f') {
+                    scanLiteral("false");
+                    return JsonToken.VALUE_FALSE;
+                }
+                scanLiteral("null");
+                return JsonToken.VALUE_NULL;
+            case C_STRUCT:
+                if (c == '{') {
+                    pos++;
+                    push(EMPTY_OBJECT);
+                    return JsonToken.START_OBJECT;
+                } else if (c == '[') {
+                    pos++;
+                    push(EMPTY_ARRAY);
+                    return JsonToken.START_ARRAY;
+                }
+                throw error("无效的JSON值");
+            default:
+                throw error("无效的JSON值");
+        }
+    }
+
+    private void push(int context) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+            names = Arrays.copyOf(names, depth * 2);
+        }
+        stack[depth++] = context;
+    }
+
+    /**
+     * 当前缓冲区已读完时向输入源补充数据，并按输入源的平移量修正持有的下标
+     *
+     * @return pos 处是否有数据可读
+     */
+    private boolean more() {
+        while (pos >= limit) {
+            int keep = tokenStart >= 0 ? tokenStart : Math.min(pos, limit);
+            long base = src.base;
+            boolean filled = src.fill(keep);
+            int shift = (int) (src.base - base);
+            pos -= shift;
+            if (tokenStart >= 0) {
+                tokenStart -= shift;
+            }
+            limit = src.limit;
+            if (!filled) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 跳过空白字符
+     *
+     * @return 之后是否还有数据
+     */
+    private boolean skipWhitespace() {
+        while (pos < limit || more()) {
+            if (charClass(src.at(pos)) != C_WS) {
+                return true;
+            }
+            pos++;
+        }
+        return false;
+    }
+
+    /**
+     * 跳过空白字符并返回下一个字符，不前进
+     */
+    private int nextNonWhitespace() {
+        if (!skipWhitespace()) {
+            throw error("JSON意外结束");
+        }
+        return src.at(pos);
+    }
+
+    /**
+     * 扫描引号之间的内容并记录区间，遇到反斜杠时连同下一个字符一起跳过
+     */
+    private void scanString() {
+        tokenStart = ++pos; // 跳过开头的引号
+        boolean escaped = false;
+        while (pos < limit || more()) {
+            pos = src.skipStringContent(pos, limit);
+            if (pos == limit) {
+                continue;
+            }
+            int c = src.at(pos);
+            if (c == '"') {
+                valueStart = tokenStart;
+                valueEnd = pos++;
+                valueEscaped = escaped;
+                tokenStart = -1;
+                return;
+            } else if (c == '\\') {
+                escaped = true;
+                pos++;
+            } else {
+                throw error("字符串中的控制字符必须转义");
+            }
+            pos++;
+        }
+        throw error("字符串缺少结束引号");
+    }
+
+    /**
+     * 取出当前键，没有转义的键经过符号表，重复的键共享同一个实例
+     */
+    private String keyText() {
+        if (valueEscaped) {
+            return stringText();
+        }
+        if (symbols == null) {
+            symbols = new SymbolTable();
+        }
+        return symbols.lookup(src, valueStart, valueEnd);
+    }
+
+    /**
+     * 取出当前字符串，没有转义时直接截取，有转义时才解码
+     */
+    private String stringText() {
+        if (!valueEscaped) {
+            return src.text(valueStart, valueEnd);
+        }
+        if (scratch == null) {
+            scratch = new StringBuilder(valueEnd - valueStart);
+        }
+        return decode(src, valueStart, valueEnd, scratch);
+    }
+
+    /**
+     * 解码 [from, to) 区间内含转义的字符串内容，转义之间的片段整段追加
+     * unicode转义逐个还原为char，代理对由相邻的两个转义自然组成
+     *
+     * @param sb 复用的缓冲区，会被清空
+     */
+    static String decode(JsonSource src, int from, int to, StringBuilder sb) {
+        sb.setLength(0);
+        int runStart = from;
+        int i = from;
+        while (i < to) {
+            if (src.at(i) != '\\') {
+                i++;
+                continue;
+            }
+            src.appendText(sb, runStart, i);
+            int c = i + 1 < to ? src.at(i + 1) : -1;
+            switch (c) {
+                case '"':
+                case '\\':
+                case '/':
+                    sb.append((char) c);
+                    break;
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    if (i + 6 > to) {
+                        throw new IllegalArgumentException("不完整的unicode转义，位置: " + src.offset(i));
+                    }
+                    int value = 0;
+                    for (int k = i + 2; k < i + 6; k++) {
+                        int digit = hexValue(src.at(k));
+                        if (digit < 0) {
+                            throw new IllegalArgumentException("无效的unicode转义，位置: " + src.offset(i));
+                        }
+                        value = value << 4 | digit;
+                    }
+                    sb.append((char) value);
+                    i += 4;
+                    break;
+                default:
+                    throw new IllegalArgumentException("无效的转义字符，位置: " + src.offset(i));
+            }
+            i += 2;
+            runStart = i;
+        }
+        src.appendText(sb, runStart, to);
+        return sb.toString();
+    }
+
+    private static int hexValue(int c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        } else if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * 扫描形如 -?(0|[1-9]\d*)(\.\d+)?([eE][+-]?\d+)? 的数字，数字在扫描时直接累加，不创建子串
+     */
+    private JsonToken scanNumber() {
+        tokenStart = pos;
+        boolean negative = src.at(pos) == '-';
+        if (negative) {
+            pos++;
+        }
+        number.reset(negative);
+        int digits = 0;
+        boolean leadingZero = false;
+        int c;
+        while ((pos < limit || more()) && charClass(c = src.at(pos)) == C_DIGIT) {
+            if (digits == 0) {
+                leadingZero = c == '0';
+            } else if (leadingZero) {
+                throw error("数字不能以多余的0开头");
+            }
+            number.integerDigit(c - '0');
+            pos++;
+            digits++;
+        }
+        if (digits == 0) {
+            throw error("数字缺少整数部分");
+        }
+        JsonToken result = JsonToken.VALUE_NUMBER_INT;
+        if ((pos < limit || more()) && src.at(pos) == '.') {
+            pos++;
+            digits = 0;
+            while ((pos < limit || more()) && charClass(c = src.at(pos)) == C_DIGIT) {
+                number.fractionDigit(c - '0');
+                pos++;
+                digits++;
+            }
+            if (digits == 0) {
+                throw error("数字缺少小数部分");
+            }
+            result = JsonToken.VALUE_NUMBER_FLOAT;
+        }
+        if ((pos < limit || more()) && ((c = src.at(pos)) == 'e' || c == 'E')) {
+            pos++;
+            boolean negativeExponent = false;
+            if ((pos < limit || more()) && ((c = src.at(pos)) == '+' || c == '-')) {
+                negativeExponent = c == '-';
+                pos++;
+            }
+            int exponent = 0;
+            digits = 0;
+            while ((pos < limit || more()) && charClass(c = src.at(pos)) == C_DIGIT) {
+                if (exponent < JsonNumbers.MAX_EXPONENT) {
+                    exponent = exponent * 10 + c - '0';
+                }
+                pos++;
+                digits++;
+            }
+            if (digits == 0) {
+                throw error("数字缺少指数部分");
+            }
+            number.exponent(negativeExponent ? -exponent : exponent);
+            result = JsonToken.VALUE_NUMBER_FLOAT;
+        }
+        valueStart = tokenStart;
+        valueEnd = pos;
+        tokenStart = -1;
+        return result;
+    }
+
+    private void scanLiteral(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (pos >= limit && !more() || src.at(pos) != literal.charAt(i)) {
+                throw error("无效的JSON值");
+            }
+            pos++;
+        }
+    }
+
+    /**
+     * 供 JsonBinder 的实现报告错误
+     *
+     * @return 消息后附有当前位置的异常
+     */
+    public IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + "，位置: " + src.offset(pos));
+    }
+}
@@ -0,0 +1,26 @@
+package cn.langya;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记需要在编译时生成 JsonBinder 的类
+ * 注解处理器 cn.langya.processor.JsonSerializableProcessor 为每个被标记的类在同一个包中生成
+ * 名为「类名JsonBinder」的类（嵌套类的外层类名以下划线连接），并注册到 META-INF/services，
+ * JsonUtil 读写这个类时不再使用反射，也没有第一次使用时生成绑定信息的开销。
+ * <p>
+ * 绑定规则与反射绑定相同：类及其父类中所有非static、非transient的字段，键就是字段名。
+ * 生成的代码直接访问字段，private字段需要有非private的getter和setter；
+ * 被标记的类不能是抽象类、非静态内部类或泛型类，读取时需要非private的无参构造器
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface JsonSerializable {
+}
@@ -0,0 +1,446 @@
+package cn.langya;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON输入源，把字符串、UTF-8字节数组和流统一成按下标访问的代码单元序列
+ * 结构字符都是ASCII，UTF-8多字节序列的每个字节都不小于0x80，因此词法分析可以直接在字节上进行，
+ * 只有字符串内容被取出时才需要解码
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+abstract class JsonSource {
+    /**
+     * 流式输入的默认缓冲区大小
+     */
+    static final int BUFFER_SIZE = 8192;
+    /**
+     * 映射文件时每次复制到缓冲区的字节数
+     */
+    static final int MAPPED_WINDOW = 1 << 16;
+    /**
+     * 单次映射的最大字节数，MappedByteBuffer 的容量不能超过 Integer.MAX_VALUE
+     */
+    static final long MAP_SIZE = 1L << 30;
+
+    /**
+     * 第一个有效代码单元的下标
+     */
+    int start;
+    /**
+     * 最后一个有效代码单元之后的下标
+     */
+    int limit;
+    /**
+     * 缓冲区下标0对应的输入偏移量，缓冲区内容前移时随之增加
+     */
+    long base;
+
+    JsonSource(int start, int limit) {
+        this.start = start;
+        this.limit = limit;
+        this.base = -start;
+    }
+
+    static JsonSource of(String json) {
+        return new StringSource(json);
+    }
+
+    static JsonSource of(byte[] utf8, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > utf8.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", array length: " + utf8.length);
+        }
+        return new Utf8Source(utf8, offset + bomLength(utf8, offset, offset + length), offset + length);
+    }
+
+    /**
+     * 包装字节数组中的一段，不检查BOM，供解析已经切分好的片段使用
+     */
+    static JsonSource wrap(byte[] utf8, int from, int to) {
+        return new Utf8Source(utf8, from, to);
+    }
+
+    static JsonSource of(InputStream in) {
+        return new Utf8StreamSource(in, new byte[BUFFER_SIZE]);
+    }
+
+    /**
+     * 以内存映射方式读取文件，通道由调用方负责关闭
+     */
+    static JsonSource of(FileChannel channel) throws IOException {
+        return new MappedSource(channel, new byte[MAPPED_WINDOW]);
+    }
+
+    static JsonSource of(Reader reader) {
+        return new ReaderSource(reader, new char[BUFFER_SIZE]);
+    }
+
+    /**
+     * 返回指定下标处的代码单元（char或无符号byte）
+     */
+    abstract int at(int index);
+
+    /**
+     * 把 [from, to) 区间解码为字符串
+     */
+    abstract String text(int from, int to);
+
+    /**
+     * 把 [from, to) 区间解码后追加到sb，不创建中间字符串
+     */
+    abstract void appendText(StringBuilder sb, int from, int to);
+
+    /**
+     * 在字符串内容中查找下一个引号、反斜杠或必须转义的控制字符（U+0000至U+001F）
+     *
+     * @return [from, to) 中第一个这样的字符的下标，没有时返回 to
+     */
+    int skipStringContent(int from, int to) {
+        for (int i = from; i < to; i++) {
+            int c = at(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * 读取更多数据。[keep, limit) 区间的内容会被保留，但可能被移动到缓冲区前部，
+     * 移动的距离体现在 base 的增量上，调用方据此平移自己持有的下标
+     *
+     * @param keep 需要保留的第一个下标
+     * @return 读到了新数据时返回true，已到达输入末尾时返回false
+     */
+    boolean fill(int keep) {
+        return false;
+    }
+
+    /**
+     * 返回只包含 [from, to) 区间的输入源，与本输入源共享底层数据，报错位置仍相对于整个输入
+     * 只有整体在内存中的输入支持，流式输入的缓冲区内容会变化
+     */
+    JsonSource slice(int from, int to) {
+        throw new UnsupportedOperationException("流式输入不支持切片");
+    }
+
+    /**
+     * 把缓冲区下标换算为输入中的偏移量
+     */
+    long offset(int index) {
+        return base + index;
+    }
+
+    /**
+     * @return [from, to) 以UTF-8 BOM开头时为BOM的字节数，否则为0
+     */
+    static int bomLength(byte[] bytes, int from, int to) {
+        if (to - from >= 3 && bytes[from] == (byte) 0xEF && bytes[from + 1] == (byte) 0xBB && bytes[from + 2] == (byte) 0xBF) {
+            return 3;
+        }
+        return 0;
+    }
+
+    private static final class StringSource extends JsonSource {
+        private final String json;
+
+        StringSource(String json) {
+            this(json, 0, json.length());
+        }
+
+        private StringSource(String json, int start, int limit) {
+            super(start, limit);
+            this.json = json;
+        }
+
+        @Override
+        JsonSource slice(int from, int to) {
+            JsonSource slice = new StringSource(json, from, to);
+            slice.base = base;
+            return slice;
+        }
+
+        @Override
+        int at(int index) {
+            return json.charAt(index);
+        }
+
+        @Override
+        String text(int from, int to) {
+            return json.substring(from, to);
+        }
+
+        @Override
+        void appendText(StringBuilder sb, int from, int to) {
+            sb.append(json, from, to);
+        }
+    }
+
+    private static class Utf8Source extends JsonSource {
+        private static final long LOW7 = 0x7F7F7F7F7F7F7F7FL;
+        private static final long QUOTES = 0x2222222222222222L;
+        private static final long BACKSLASHES = 0x5C5C5C5C5C5C5C5CL;
+        /**
+         * 控制字符的高3位都是0
+         */
+        private static final long CONTROL_BITS = 0xE0E0E0E0E0E0E0E0L;
+
+        byte[] bytes;
+        /**
+         * bytes 的小端序视图，一次读取8个字节；替换 bytes 时要一起替换
+         */
+        ByteBuffer words;
+
+        Utf8Source(byte[] bytes, int start, int limit) {
+            super(start, limit);
+            this.bytes = bytes;
+            this.words = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        /**
+         * 每次比较8个字节（SWAR）：把要找的字节异或成0、控制字符屏蔽掉低5位后也为0，
+         * 再用不跨字节进位的加法找出为0的字节，字符串的普通内容不再逐字节分支
+         */
+        @Override
+        final int skipStringContent(int from, int to) {
+            // 键和短字符串通常在前几个字节内结束，先逐字节看一眼
+            int i = from;
+            for (int end = Math.min(to, from + 4); i < end; i++) {
+                byte b = bytes[i];
+                if (b == '"' || b == '\\' || b >= 0 && b < 0x20) {
+                    return i;
+                }
+            }
+            ByteBuffer view = words;
+            for (; to - i >= 8; i += 8) {
+                long word = view.getLong(i);
+                long hits = zeroBytes(word ^ QUOTES) | zeroBytes(word ^ BACKSLASHES) | zeroBytes(word & CONTROL_BITS);
+                if (hits != 0) {
+                    return i + (Long.numberOfTrailingZeros(hits) >>> 3);
+                }
+            }
+            for (; i < to; i++) {
+                byte b = bytes[i];
+                if (b == '"' || b == '\\' || b >= 0 && b < 0x20) {
+                    return i;
+                }
+            }
+            return to;
+        }
+
+        /**
+         * @return 等于0的字节置为0x80、其余字节为0，结果是精确的
+         */
+        private static long zeroBytes(long x) {
+            return ~((x & LOW7) + LOW7 | x | LOW7);
+        }
+
+        @Override
+        JsonSource slice(int from, int to) {
+            JsonSource slice = new Utf8Source(bytes, from, to);
+            slice.base = base;
+            return slice;
+        }
+
+        @Override
+        final int at(int index) {
+            return bytes[index] & 0xFF;
+        }
+
+        @Override
+        final String text(int from, int to) {
+            return new String(bytes, from, to - from, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        final void appendText(StringBuilder sb, int from, int to) {
+            // ASCII部分逐字节追加，遇到多字节序列时剩余部分交给UTF-8解码器
+            int i = from;
+            byte b;
+            while (i < to && (b = bytes[i]) >= 0) {
+                sb.append((char) b);
+                i++;
+            }
+            if (i < to) {
+                sb.append(new String(bytes, i, to - i, StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    /**
+     * 从InputStream按块读取UTF-8数据，缓冲区只在单个记号超过其容量时扩大
+     */
+    private static class Utf8StreamSource extends Utf8Source {
+        private final InputStream in;
+        private boolean first = true;
+
+        Utf8StreamSource(InputStream in, byte[] buffer) {
+            super(buffer, 0, 0);
+            this.in = in;
+        }
+
+        /**
+         * 读取最多 len 个字节到 dst，返回读到的字节数，已到达末尾时返回-1
+         */
+        int read(byte[] dst, int off, int len) throws IOException {
+            return in.read(dst, off, len);
+        }
+
+        @Override
+        JsonSource slice(int from, int to) {
+            throw new UnsupportedOperationException("流式输入不支持切片");
+        }
+
+        @Override
+        boolean fill(int keep) {
+            int kept = limit - keep;
+            if (keep > 0) {
+                System.arraycopy(bytes, keep, bytes, 0, kept);
+                base += keep;
+            } else if (kept == bytes.length) {
+                byte[] grown = new byte[bytes.length * 2];
+                System.arraycopy(bytes, 0, grown, 0, kept);
+                bytes = grown;
+                words = ByteBuffer.wrap(grown).order(ByteOrder.LITTLE_ENDIAN);
+            }
+            start = 0;
+            limit = kept;
+            if (!read()) {
+                return false;
+            }
+            if (first) {
+                // 首次读取时凑够3个字节以识别UTF-8 BOM
+                first = false;
+                while (limit < 3 && read()) {
+                    // 继续读取
+                }
+                int bom = bomLength(bytes, 0, limit);
+                if (bom > 0) {
+                    // 直接丢弃BOM，偏移量从BOM之后开始计算
+                    limit -= bom;
+                    System.arraycopy(bytes, bom, bytes, 0, limit);
+                    return limit > 0 || fill(0);
+                }
+            }
+            return true;
+        }
+
+        private boolean read() {
+            int n;
+            try {
+                do {
+                    n = read(bytes, limit, bytes.length - limit);
+                } while (n == 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (n < 0) {
+                return false;
+            }
+            limit += n;
+            return true;
+        }
+    }
+
+    /**
+     * 从内存映射的文件读取UTF-8数据，文件按 MAP_SIZE 分段映射，超过2GB的文件也能读取
+     * 词法分析在字节数组上进行，因此映射区的内容按窗口批量复制到堆上的缓冲区，
+     * 复制直接从页缓存进行，没有read系统调用，堆上只占用一个窗口
+     */
+    private static final class MappedSource extends Utf8StreamSource {
+        private final FileChannel channel;
+        private final long size;
+        /**
+         * 下一段映射的起始位置
+         */
+        private long position;
+        private MappedByteBuffer mapped;
+
+        MappedSource(FileChannel channel, byte[] buffer) throws IOException {
+            super(null, buffer);
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        @Override
+        int read(byte[] dst, int off, int len) throws IOException {
+            if (mapped == null || !mapped.hasRemaining()) {
+                if (position >= size) {
+                    return -1;
+                }
+                long length = Math.min(MAP_SIZE, size - position);
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                position += length;
+            }
+            int n = Math.min(len, mapped.remaining());
+            mapped.get(dst, off, n);
+            return n;
+        }
+    }
+
+    /**
+     * 从Reader按块读取字符，缓冲区只在单个记号超过其容量时扩大
+     */
+    private static final class ReaderSource extends JsonSource {
+        private final Reader reader;
+        private char[] chars;
+
+        ReaderSource(Reader reader, char[] buffer) {
+            super(0, 0);
+            this.reader = reader;
+            this.chars = buffer;
+        }
+
+        @Override
+        int at(int index) {
+            return chars[index];
+        }
+
+        @Override
+        String text(int from, int to) {
+            return new String(chars, from, to - from);
+        }
+
+        @Override
+        void appendText(StringBuilder sb, int from, int to) {
+            sb.append(chars, from, to - from);
+        }
+
+        @Override
+        boolean fill(int keep) {
+            int kept = limit - keep;
+            if (keep > 0) {
+                System.arraycopy(chars, keep, chars, 0, kept);
+                base += keep;
+            } else if (kept == chars.length) {
+                char[] grown = new char[chars.length * 2];
+                System.arraycopy(chars, 0, grown, 0, kept);
+                chars = grown;
+            }
+            start = 0;
+            limit = kept;
+            int n;
+            try {
+                do {
+                    n = reader.read(chars, limit, chars.length - limit);
+                } while (n == 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (n < 0) {
+                return false;
+            }
+            limit += n;
+            return true;
+        }
+    }
+}
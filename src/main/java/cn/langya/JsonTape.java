@@ -0,0 +1,490 @@
+package cn.langya;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * 扁平的只读文档：整棵树保存在一个 long[] 磁带和一个 char[] 字符串区里，
+ * 无论文档多大都只有这两个数组，适合读多写少、不希望产生大量小对象的场景
+ * <p>
+ * 磁带上每个条目的高8位是标记，低56位是载荷：
+ * <ul>
+ *     <li>对象和数组的开始条目载荷为 元素数（24位，超出时饱和）和对应结束条目的下标，跳过子树只需一次跳转</li>
+ *     <li>结束条目的载荷为对应开始条目的下标</li>
+ *     <li>键、字符串和大数字的载荷为字符串区中的偏移量，字符串区中先用两个char存长度再存内容；相同的键只存一份</li>
+ *     <li>整数和小数占两个条目，第二个条目是long值或double的位模式</li>
+ *     <li>true、false、null只有标记</li>
+ * </ul>
+ * 通过 {@link Cursor} 导航，也可以用 {@link #toJava()} 转换为Map/List
+ * <p>
+ * 两个数组都以int为下标，长度上限均为 Integer.MAX_VALUE - 8：磁带上每个键、对象和数组的开始与结束、
+ * true/false/null各占一个条目，数字占两个条目；字符串区存放全部字符串和不重复的键，每个另加两个char的长度。
+ * 因此文档最多约有二十亿个磁带条目（例如十亿个数字），字符串总长最多约二十亿个char，超出时抛出 IllegalArgumentException
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class JsonTape {
+    private static final int START_OBJECT = '{';
+    private static final int END_OBJECT = '}';
+    private static final int START_ARRAY = '[';
+    private static final int END_ARRAY = ']';
+    private static final int KEY = 'k';
+    private static final int STRING = '"';
+    private static final int LONG = 'l';
+    private static final int DOUBLE = 'd';
+    private static final int BIG_INTEGER = 'I';
+    private static final int BIG_DECIMAL = 'D';
+    private static final int TRUE = 't';
+    private static final int FALSE = 'f';
+    private static final int NULL = 'n';
+
+    private static final long PAYLOAD_MASK = (1L << 56) - 1;
+    private static final int MAX_COUNT = (1 << 24) - 1;
+    /**
+     * 磁带条目数和字符串区长度的上限，部分虚拟机无法分配更接近 Integer.MAX_VALUE 的数组
+     */
+    private static final int MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final long[] tape;
+    private final char[] strings;
+
+    private JsonTape(long[] tape, char[] strings) {
+        this.tape = tape;
+        this.strings = strings;
+    }
+
+    /**
+     * 读取 reader 中的整个文档，顶层可以是任意JSON值
+     */
+    static JsonTape build(JsonReader reader) {
+        Builder builder = new Builder(reader);
+        JsonToken token = reader.nextToken();
+        if (token == null) {
+            throw reader.error("无效的JSON字符串");
+        }
+        int depth = 0;
+        do {
+            if (depth > 0 && token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.FIELD_NAME) {
+                builder.counts[depth - 1]++;
+            }
+            switch (token) {
+                case START_OBJECT:
+                case START_ARRAY:
+                    builder.open(token == JsonToken.START_OBJECT ? START_OBJECT : START_ARRAY, depth++);
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    builder.close(token == JsonToken.END_OBJECT ? END_OBJECT : END_ARRAY, --depth);
+                    break;
+                case FIELD_NAME:
+                    builder.key(reader.currentName());
+                    break;
+                case VALUE_STRING:
+                    builder.append(STRING, builder.string(reader.getString()));
+                    break;
+                case VALUE_NUMBER_INT:
+                    if (reader.fitsLong()) {
+                        builder.append(LONG, 0);
+                        builder.append(reader.getLong());
+                    } else {
+                        builder.append(BIG_INTEGER, builder.string(reader.getNumber().toString()));
+                    }
+                    break;
+                case VALUE_NUMBER_FLOAT:
+                    double value = reader.getDouble();
+                    if (Double.isInfinite(value)) {
+                        builder.append(BIG_DECIMAL, builder.string(reader.getBigDecimal().toString()));
+                    } else {
+                        builder.append(DOUBLE, 0);
+                        builder.append(Double.doubleToRawLongBits(value));
+                    }
+                    break;
+                case VALUE_TRUE:
+                    builder.append(TRUE, 0);
+                    break;
+                case VALUE_FALSE:
+                    builder.append(FALSE, 0);
+                    break;
+                default:
+                    builder.append(NULL, 0);
+                    break;
+            }
+        } while (depth > 0 && (token = reader.nextToken()) != null);
+        // 确认顶层值之后只剩空白字符
+        reader.nextToken();
+        return new JsonTape(Arrays.copyOf(builder.tape, builder.size), Arrays.copyOf(builder.strings, builder.stringSize));
+    }
+
+    private static final class Builder {
+        final JsonReader reader;
+        long[] tape = new long[64];
+        int size;
+        char[] strings = new char[256];
+        int stringSize;
+        int[] starts = new int[16];
+        int[] counts = new int[16];
+        /**
+         * 键在字符串区中的偏移量，键来自符号表，相同的键只存一份
+         */
+        final Map<String, Integer> keyOffsets = new HashMap<>();
+
+        Builder(JsonReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * 计算扩容后的长度，按两倍增长但不超过 {@link #MAX_LENGTH}
+         *
+         * @param needed 至少需要的长度
+         * @throws IllegalArgumentException 需要的长度超过上限时抛出
+         */
+        int grow(int length, long needed) {
+            if (needed > MAX_LENGTH) {
+                throw reader.error("文档超出JsonTape的容量上限 " + MAX_LENGTH);
+            }
+            return (int) Math.min(Math.max(length * 2L, needed), MAX_LENGTH);
+        }
+
+        void append(int tag, long payload) {
+            append((long) tag << 56 | payload);
+        }
+
+        void append(long entry) {
+            if (size == tape.length) {
+                tape = Arrays.copyOf(tape, grow(size, size + 1L));
+            }
+            tape[size++] = entry;
+        }
+
+        void open(int tag, int depth) {
+            if (depth == starts.length) {
+                starts = Arrays.copyOf(starts, depth * 2);
+                counts = Arrays.copyOf(counts, depth * 2);
+            }
+            starts[depth] = size;
+            counts[depth] = 0;
+            append(tag, 0);
+        }
+
+        void close(int tag, int depth) {
+            int start = starts[depth];
+            long count = Math.min(counts[depth], MAX_COUNT);
+            tape[start] |= count << 32 | size;
+            append(tag, start);
+        }
+
+        void key(String name) {
+            Integer offset = keyOffsets.get(name);
+            if (offset == null) {
+                offset = string(name);
+                keyOffsets.put(name, offset);
+            }
+            append(KEY, offset);
+        }
+
+        int string(String value) {
+            int length = value.length();
+            int offset = stringSize;
+            if ((long) offset + length + 2 > strings.length) {
+                strings = Arrays.copyOf(strings, grow(strings.length, (long) offset + length + 2));
+            }
+            strings[offset] = (char) (length >>> 16);
+            strings[offset + 1] = (char) length;
+            value.getChars(0, length, strings, offset + 2);
+            stringSize = offset + length + 2;
+            return offset;
+        }
+    }
+
+    /**
+     * @return 指向顶层值的游标
+     */
+    public Cursor root() {
+        return new Cursor(0, -1);
+    }
+
+    /**
+     * 把整个文档转换为Map/List，数字的类型与 JsonUtil.parse 相同
+     *
+     * @return Map、List或标量
+     */
+    public Object toJava() {
+        return toJava(0);
+    }
+
+    /**
+     * @return 磁带的条目数
+     */
+    public int tapeLength() {
+        return tape.length;
+    }
+
+    private int tag(int index) {
+        return (int) (tape[index] >>> 56);
+    }
+
+    /**
+     * @return index 处的值之后的下一个条目下标
+     */
+    private int skip(int index) {
+        switch (tag(index)) {
+            case START_OBJECT:
+            case START_ARRAY:
+                return (int) tape[index] + 1;
+            case LONG:
+            case DOUBLE:
+                return index + 2;
+            default:
+                return index + 1;
+        }
+    }
+
+    private String string(int index) {
+        int offset = (int) (tape[index] & PAYLOAD_MASK);
+        int length = strings[offset] << 16 | strings[offset + 1];
+        return new String(strings, offset + 2, length);
+    }
+
+    /**
+     * 在字符串区中直接比较，不创建字符串
+     */
+    private boolean stringEquals(int index, String value) {
+        int offset = (int) (tape[index] & PAYLOAD_MASK);
+        int length = strings[offset] << 16 | strings[offset + 1];
+        if (length != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (strings[offset + 2 + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object toJava(int index) {
+        switch (tag(index)) {
+            case START_OBJECT:
+                Map<String, Object> map = new HashMap<>();
+                for (int i = index + 1, end = (int) tape[index]; i < end; i = skip(i + 1)) {
+                    map.put(string(i), toJava(i + 1));
+                }
+                return map;
+            case START_ARRAY:
+                List<Object> list = new ArrayList<>(count(index));
+                for (int i = index + 1, end = (int) tape[index]; i < end; i = skip(i)) {
+                    list.add(toJava(i));
+                }
+                return list;
+            case STRING:
+                return string(index);
+            case LONG:
+                long value = tape[index + 1];
+                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                    return (int) value;
+                }
+                return value;
+            case DOUBLE:
+                return Double.longBitsToDouble(tape[index + 1]);
+            case BIG_INTEGER:
+                return new BigInteger(string(index));
+            case BIG_DECIMAL:
+                return new BigDecimal(string(index));
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    private int count(int index) {
+        return (int) (tape[index] >>> 32 & MAX_COUNT);
+    }
+
+    /**
+     * 指向磁带上某个值的轻量游标，本身只保存两个下标
+     * 类型不符的取值方法抛出 IllegalStateException，找不到时返回null
+     */
+    public final class Cursor {
+        private final int index;
+        /**
+         * 对象成员的键所在的条目下标，不是对象成员时为-1
+         */
+        private final int keyIndex;
+
+        private Cursor(int index, int keyIndex) {
+            this.index = index;
+            this.keyIndex = keyIndex;
+        }
+
+        public JsonNode.Kind kind() {
+            switch (tag(index)) {
+                case START_OBJECT:
+                    return JsonNode.Kind.OBJECT;
+                case START_ARRAY:
+                    return JsonNode.Kind.ARRAY;
+                case STRING:
+                    return JsonNode.Kind.STRING;
+                case LONG:
+                    return JsonNode.Kind.LONG;
+                case DOUBLE:
+                    return JsonNode.Kind.DOUBLE;
+                case BIG_INTEGER:
+                case BIG_DECIMAL:
+                    return JsonNode.Kind.BIG_NUMBER;
+                case TRUE:
+                case FALSE:
+                    return JsonNode.Kind.BOOLEAN;
+                default:
+                    return JsonNode.Kind.NULL;
+            }
+        }
+
+        /**
+         * @return 本值在所在对象中的键，不是对象成员时返回null
+         */
+        public String name() {
+            return keyIndex < 0 ? null : string(keyIndex);
+        }
+
+        /**
+         * @return 对象的字段数或数组的元素数，其他值为0
+         */
+        public int size() {
+            int tag = tag(index);
+            if (tag != START_OBJECT && tag != START_ARRAY) {
+                return 0;
+            }
+            int count = count(index);
+            if (count < MAX_COUNT) {
+                return count;
+            }
+            // 计数已饱和，逐个数
+            count = 0;
+            for (int i = index + 1, end = (int) tape[index]; i < end; i = tag == START_OBJECT ? skip(i + 1) : skip(i)) {
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * 按键查找字段，逐个比较键并通过跳转跳过不匹配的子树
+         *
+         * @return 字段值的游标，不存在或本值不是对象时返回null
+         */
+        public Cursor get(String name) {
+            if (tag(index) != START_OBJECT) {
+                return null;
+            }
+            for (int i = index + 1, end = (int) tape[index]; i < end; i = skip(i + 1)) {
+                if (stringEquals(i, name)) {
+                    return new Cursor(i + 1, i);
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return 数组元素的游标，越界或本值不是数组时返回null
+         */
+        public Cursor get(int position) {
+            if (tag(index) != START_ARRAY || position < 0) {
+                return null;
+            }
+            int i = index + 1;
+            int end = (int) tape[index];
+            for (int k = 0; k < position && i < end; k++) {
+                i = skip(i);
+            }
+            return i < end ? new Cursor(i, -1) : null;
+        }
+
+        /**
+         * @return 第一个元素或字段的游标，空容器或本值不是容器时返回null
+         */
+        public Cursor firstChild() {
+            int tag = tag(index);
+            if (tag != START_OBJECT && tag != START_ARRAY || index + 1 == (int) tape[index]) {
+                return null;
+            }
+            return tag == START_OBJECT ? new Cursor(index + 2, index + 1) : new Cursor(index + 1, -1);
+        }
+
+        /**
+         * @return 同一容器中下一个元素或字段的游标，没有时返回null
+         */
+        public Cursor nextSibling() {
+            if (index == 0) {
+                return null;
+            }
+            int next = skip(index);
+            int tag = tag(next);
+            if (tag == END_OBJECT || tag == END_ARRAY) {
+                return null;
+            }
+            return tag == KEY ? new Cursor(next + 1, next) : new Cursor(next, -1);
+        }
+
+        public String stringValue() {
+            if (tag(index) != STRING) {
+                throw typeError("字符串");
+            }
+            return string(index);
+        }
+
+        public long longValue() {
+            switch (tag(index)) {
+                case LONG:
+                    return tape[index + 1];
+                case DOUBLE:
+                    return (long) Double.longBitsToDouble(tape[index + 1]);
+                case BIG_INTEGER:
+                case BIG_DECIMAL:
+                    return ((Number) JsonTape.this.toJava(index)).longValue();
+                default:
+                    throw typeError("数字");
+            }
+        }
+
+        public double doubleValue() {
+            switch (tag(index)) {
+                case LONG:
+                    return tape[index + 1];
+                case DOUBLE:
+                    return Double.longBitsToDouble(tape[index + 1]);
+                case BIG_INTEGER:
+                case BIG_DECIMAL:
+                    return ((Number) JsonTape.this.toJava(index)).doubleValue();
+                default:
+                    throw typeError("数字");
+            }
+        }
+
+        public boolean booleanValue() {
+            int tag = tag(index);
+            if (tag != TRUE && tag != FALSE) {
+                throw typeError("布尔值");
+            }
+            return tag == TRUE;
+        }
+
+        public boolean isNull() {
+            return tag(index) == NULL;
+        }
+
+        /**
+         * @return 本值转换成的Map、List或标量
+         */
+        public Object toJava() {
+            return JsonTape.this.toJava(index);
+        }
+
+        private IllegalStateException typeError(String expected) {
+            return new IllegalStateException("值的类型为 " + kind() + "，不是" + expected);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package cn.langya;
+
+/**
+ * JsonReader 逐个返回的记号类型
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public enum JsonToken {
+    /**
+     * 对象开始 '{'
+     */
+    START_OBJECT,
+    /**
+     * 对象结束 '}'
+     */
+    END_OBJECT,
+    /**
+     * 数组开始 '['
+     */
+    START_ARRAY,
+    /**
+     * 数组结束 ']'
+     */
+    END_ARRAY,
+    /**
+     * 对象的键
+     */
+    FIELD_NAME,
+    /**
+     * 字符串值
+     */
+    VALUE_STRING,
+    /**
+     * 不带小数部分的数字
+     */
+    VALUE_NUMBER_INT,
+    /**
+     * 带小数部分的数字
+     */
+    VALUE_NUMBER_FLOAT,
+    /**
+     * true
+     */
+    VALUE_TRUE,
+    /**
+     * false
+     */
+    VALUE_FALSE,
+    /**
+     * null
+     */
+    VALUE_NULL
+}
@@ -1,187 +1,554 @@
 package cn.langya;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
-import java.util.regex.*;
+import java.util.concurrent.ForkJoinPool;
 
 /**
- * 使用正则表达式进行JSON操作的工具类
+ * JSON操作的工具类
  * 支持基本的JSON序列化和反序列化操作，包括多层嵌套和类型解析
  *
  * @author LangYa466
  * @since 2025/1/6
  */
 public class JsonUtil {
-    private static final Pattern ARRAY_PATTERN = Pattern.compile("\\[(.*?)]", Pattern.DOTALL);
-    private static final Pattern STRING_PATTERN = Pattern.compile("\"(.*?)\"");
-    private static final Pattern NUMBER_PATTERN = Pattern.compile("-?\\d+(\\.\\d+)?");
-
-
     /**
      * 将JSON字符串解析为Map或List（支持多层嵌套）
      *
-     * @param json JSON字符串
+     * @param json     JSON字符串
+     * @param features 可选的解析特性，见 JsonFeature
      * @return 解析后的对象（Map 或 List）
      */
-    public static Object parse(String json) {
-        json = json.trim();
-        if (json.startsWith("{")) {
-            return parseObject(json);
-        } else if (json.startsWith("[")) {
-            return parseArray(json);
-        } else {
-            throw new IllegalArgumentException("无效的JSON字符串: " + json);
-        }
+    public static Object parse(String json, JsonFeature... features) {
+        return new JsonParser(JsonSource.of(json), features).parseDocument();
     }
 
     /**
      * 将JSON字符串解析为Map（支持多层嵌套）
      *
-     * @param json JSON对象字符串
+     * @param json     JSON对象字符串
+     * @param features 可选的解析特性，见 JsonFeature
      * @return 表示JSON对象的Map
      */
-    public static Map<String, Object> parseObject(String json) {
-        json = json.trim();
-        if (!json.startsWith("{") || !json.endsWith("}")) {
-            throw new IllegalArgumentException("无效的JSON对象: " + json);
-        }
+    public static Map<String, Object> parseObject(String json, JsonFeature... features) {
+        return new JsonParser(JsonSource.of(json), features).parseObjectDocument();
+    }
 
-        Map<String, Object> result = new HashMap<>();
-        String content = json.substring(1, json.length() - 1).trim();
-        int bracketLevel = 0;
-        StringBuilder currentKey = new StringBuilder();
-        StringBuilder currentValue = new StringBuilder();
-        boolean inQuotes = false;
-        boolean parsingKey = true;
+    /**
+     * 将JSON数组字符串解析为List（支持多层嵌套）
+     *
+     * @param json     JSON数组字符串
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 表示JSON数组的List
+     */
+    public static List<Object> parseArray(String json, JsonFeature... features) {
+        return new JsonParser(JsonSource.of(json), features).parseArrayDocument();
+    }
 
-        for (int i = 0; i < content.length(); i++) {
-            char c = content.charAt(i);
+    /**
+     * 直接解析UTF-8字节数组，无需先解码为字符串
+     *
+     * @param utf8     UTF-8编码的JSON
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 解析后的对象（Map 或 List）
+     */
+    public static Object parse(byte[] utf8, JsonFeature... features) {
+        return parse(utf8, 0, utf8.length, features);
+    }
 
-            if (c == '\"' && (i == 0 || content.charAt(i - 1) != '\\')) {
-                inQuotes = !inQuotes;
-            }
+    /**
+     * 直接解析UTF-8字节数组中的一段，无需先解码为字符串
+     *
+     * @param utf8     UTF-8编码的JSON
+     * @param offset   起始下标
+     * @param length   字节数
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 解析后的对象（Map 或 List）
+     */
+    public static Object parse(byte[] utf8, int offset, int length, JsonFeature... features) {
+        return new JsonParser(JsonSource.of(utf8, offset, length), features).parseDocument();
+    }
 
-            if (!inQuotes) {
-                if (c == '{' || c == '[') {
-                    bracketLevel++;
-                } else if (c == '}' || c == ']') {
-                    bracketLevel--;
-                } else if (c == ':' && parsingKey && bracketLevel == 0) {
-                    parsingKey = false;
-                    continue;
-                } else if (c == ',' && bracketLevel == 0) {
-                    result.put(currentKey.toString().trim(), parseValue(currentValue.toString().trim()));
-                    currentKey.setLength(0);
-                    currentValue.setLength(0);
-                    parsingKey = true;
-                    continue;
-                }
-            }
+    /**
+     * 将UTF-8字节数组解析为Map（支持多层嵌套）
+     *
+     * @param utf8     UTF-8编码的JSON对象
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 表示JSON对象的Map
+     */
+    public static Map<String, Object> parseObject(byte[] utf8, JsonFeature... features) {
+        return parseObject(utf8, 0, utf8.length, features);
+    }
 
-            if (parsingKey) {
-                currentKey.append(c);
-            } else {
-                currentValue.append(c);
-            }
-        }
+    /**
+     * 将UTF-8字节数组中的一段解析为Map（支持多层嵌套）
+     *
+     * @param utf8     UTF-8编码的JSON对象
+     * @param offset   起始下标
+     * @param length   字节数
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 表示JSON对象的Map
+     */
+    public static Map<String, Object> parseObject(byte[] utf8, int offset, int length, JsonFeature... features) {
+        return new JsonParser(JsonSource.of(utf8, offset, length), features).parseObjectDocument();
+    }
 
-        if (currentKey.length() > 0 && currentValue.length() > 0) {
-            result.put(currentKey.toString().trim(), parseValue(currentValue.toString().trim()));
-        }
+    /**
+     * 将UTF-8字节数组解析为List（支持多层嵌套）
+     *
+     * @param utf8     UTF-8编码的JSON数组
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 表示JSON数组的List
+     */
+    public static List<Object> parseArray(byte[] utf8, JsonFeature... features) {
+        return parseArray(utf8, 0, utf8.length, features);
+    }
+
+    /**
+     * 将UTF-8字节数组中的一段解析为List（支持多层嵌套）
+     *
+     * @param utf8     UTF-8编码的JSON数组
+     * @param offset   起始下标
+     * @param length   字节数
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 表示JSON数组的List
+     */
+    public static List<Object> parseArray(byte[] utf8, int offset, int length, JsonFeature... features) {
+        return new JsonParser(JsonSource.of(utf8, offset, length), features).parseArrayDocument();
+    }
+
+    /**
+     * 将JSON直接绑定为指定类型的对象，不经过中间的Map/List
+     * 普通Java对象按字段名绑定，需要无参构造器；也支持字符串、数字、枚举、数组、集合和Map。
+     * 每个类的绑定信息只在第一次使用时生成
+     *
+     * @param json JSON字符串
+     * @param type 目标类型
+     * @return 绑定后的对象，JSON为null时返回null
+     * @throws IllegalArgumentException JSON格式错误或与目标类型不符时抛出
+     */
+    public static <T> T parse(String json, Class<T> type) {
+        return bind(JsonSource.of(json), type);
+    }
+
+    /**
+     * 将UTF-8编码的JSON直接绑定为指定类型的对象，规则同 {@link #parse(String, Class)}
+     *
+     * @param utf8 UTF-8编码的JSON
+     * @param type 目标类型
+     * @return 绑定后的对象，JSON为null时返回null
+     * @throws IllegalArgumentException JSON格式错误或与目标类型不符时抛出
+     */
+    public static <T> T parse(byte[] utf8, Class<T> type) {
+        return bind(JsonSource.of(utf8, 0, utf8.length), type);
+    }
+
+    /**
+     * 从输入流读取UTF-8编码的JSON并绑定为指定类型的对象，输入流由调用方负责关闭
+     *
+     * @param in   UTF-8编码的JSON输入流
+     * @param type 目标类型
+     * @return 绑定后的对象，JSON为null时返回null
+     * @throws IllegalArgumentException     JSON格式错误或与目标类型不符时抛出
+     * @throws java.io.UncheckedIOException 读取输入流失败时抛出
+     */
+    public static <T> T parse(InputStream in, Class<T> type) {
+        return bind(JsonSource.of(in), type);
+    }
 
+    private static <T> T bind(JsonSource src, Class<T> type) {
+        JsonReader reader = new JsonReader(src);
+        if (reader.nextToken() == null) {
+            throw reader.error("无效的JSON字符串");
+        }
+        T result = reader.readValue(type);
+        reader.nextToken();
         return result;
     }
 
     /**
-     * 将JSON数组字符串解析为List（支持多层嵌套）
+     * 并行解析顶层为超大数组的JSON字符串，使用公共的ForkJoinPool
+     * 先扫描出顶层元素的边界并切分成若干段，各段并行解析后按原顺序拼接；
+     * 小于1MB的输入直接顺序解析。结果和报错与 parseArray 相同，只是并行时顶层一定是普通List，
+     * PRIMITIVE_ARRAYS 只作用于元素内部的数组
      *
-     * @param json JSON数组字符串
+     * @param json     JSON数组字符串
+     * @param features 可选的解析特性，见 JsonFeature
      * @return 表示JSON数组的List
      */
-    public static List<Object> parseArray(String json) {
-        // 检查数组是否完整闭合
-        if (!json.trim().endsWith("]")) {
-            throw new IllegalArgumentException("无效的JSON数组: " + json + "，缺少右方括号");
-        }
+    public static List<Object> parseArrayParallel(String json, JsonFeature... features) {
+        return parseArrayParallel(json, ForkJoinPool.commonPool(), features);
+    }
 
-        Matcher arrayMatcher = ARRAY_PATTERN.matcher(json);
-        if (arrayMatcher.find()) {
-            String content = arrayMatcher.group(1).trim();
-            List<Object> result = new ArrayList<>();
-            for (String item : splitJsonArray(content)) {
-                try {
-                    result.add(parseValue(item.trim())); // 递归解析数组中的每个元素
-                } catch (Exception e) {
-                    throw new IllegalArgumentException("无法解析JSON数组中的元素: " + item, e);
-                }
-            }
-            return result;
+    /**
+     * 在指定的ForkJoinPool上并行解析顶层为超大数组的JSON字符串
+     *
+     * @param json     JSON数组字符串
+     * @param pool     执行解析的线程池
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 表示JSON数组的List
+     */
+    public static List<Object> parseArrayParallel(String json, ForkJoinPool pool, JsonFeature... features) {
+        return new ParallelArrayParser(JsonSource.of(json), pool, features).parse();
+    }
+
+    /**
+     * 并行解析顶层为超大数组的UTF-8字节数组，使用公共的ForkJoinPool，其余同 {@link #parseArrayParallel(String, JsonFeature...)}
+     *
+     * @param utf8     UTF-8编码的JSON数组
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 表示JSON数组的List
+     */
+    public static List<Object> parseArrayParallel(byte[] utf8, JsonFeature... features) {
+        return parseArrayParallel(utf8, ForkJoinPool.commonPool(), features);
+    }
+
+    /**
+     * 在指定的ForkJoinPool上并行解析顶层为超大数组的UTF-8字节数组
+     *
+     * @param utf8     UTF-8编码的JSON数组
+     * @param pool     执行解析的线程池
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 表示JSON数组的List
+     */
+    public static List<Object> parseArrayParallel(byte[] utf8, ForkJoinPool pool, JsonFeature... features) {
+        return new ParallelArrayParser(JsonSource.of(utf8, 0, utf8.length), pool, features).parse();
+    }
+
+    /**
+     * 从输入流读取UTF-8编码的JSON并解析，输入按固定大小的缓冲区分块读取，不会整体载入内存
+     * 输入流由调用方负责关闭
+     *
+     * @param in       UTF-8编码的JSON输入流
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 解析后的对象（Map 或 List）
+     * @throws java.io.UncheckedIOException 读取输入流失败时抛出
+     */
+    public static Object parse(InputStream in, JsonFeature... features) {
+        return new JsonParser(JsonSource.of(in), features).parseDocument();
+    }
+
+    /**
+     * 从Reader读取JSON并解析，输入按固定大小的缓冲区分块读取，不会整体载入内存
+     * Reader由调用方负责关闭
+     *
+     * @param reader   JSON字符输入
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 解析后的对象（Map 或 List）
+     * @throws java.io.UncheckedIOException 读取失败时抛出
+     */
+    public static Object parse(Reader reader, JsonFeature... features) {
+        return new JsonParser(JsonSource.of(reader), features).parseDocument();
+    }
+
+    /**
+     * 以内存映射方式读取并解析JSON文件，不把文件内容读成字符串或字节数组，
+     * 堆上只占用一个固定大小的窗口，超过2GB的文件分段映射
+     *
+     * @param path     UTF-8编码的JSON文件
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 解析后的对象（Map 或 List）
+     * @throws java.io.UncheckedIOException 打开或读取文件失败时抛出
+     */
+    public static Object parse(Path path, JsonFeature... features) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new JsonParser(JsonSource.of(channel), features).parseDocument();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        throw new IllegalArgumentException("无效的JSON数组: " + json);
-    }
-
-    /**
-     * 根据字符串值解析成对应的Java对象
-     *
-     * @param value JSON值字符串
-     * @return 解析后的Java对象
-     */
-    private static Object parseValue(String value) {
-        if (value.startsWith("{")) {
-            return parseObject(value);
-        } else if (value.startsWith("[")) {
-            return parseArray(value);
-        } else if (STRING_PATTERN.matcher(value).matches()) {
-            return value.substring(1, value.length() - 1); // 去掉引号
-        } else if (NUMBER_PATTERN.matcher(value).matches()) {
-            return value.contains(".") ? Double.parseDouble(value) : Integer.parseInt(value);
-        } else if ("true".equals(value) || "false".equals(value)) {
-            return Boolean.parseBoolean(value);
-        } else if ("null".equals(value)) {
-            return null;
-        } else {
-            throw new IllegalArgumentException("无效的JSON值: " + value);
+    }
+
+    /**
+     * 将JSON解析为类型化的JsonNode树，顶层可以是任意JSON值
+     *
+     * @param json JSON字符串
+     * @return 根节点
+     */
+    public static JsonNode parseTree(String json) {
+        return new JsonParser(JsonSource.of(json)).parseTreeDocument();
+    }
+
+    /**
+     * 将UTF-8字节数组解析为类型化的JsonNode树，顶层可以是任意JSON值
+     *
+     * @param utf8 UTF-8编码的JSON
+     * @return 根节点
+     */
+    public static JsonNode parseTree(byte[] utf8) {
+        return new JsonParser(JsonSource.of(utf8, 0, utf8.length)).parseTreeDocument();
+    }
+
+    /**
+     * 从输入流读取UTF-8编码的JSON并解析为JsonNode树，输入流由调用方负责关闭
+     *
+     * @param in UTF-8编码的JSON输入流
+     * @return 根节点
+     * @throws java.io.UncheckedIOException 读取输入流失败时抛出
+     */
+    public static JsonNode parseTree(InputStream in) {
+        return new JsonParser(JsonSource.of(in)).parseTreeDocument();
+    }
+
+    /**
+     * 从Reader读取JSON并解析为JsonNode树，Reader由调用方负责关闭
+     *
+     * @param reader JSON字符输入
+     * @return 根节点
+     * @throws java.io.UncheckedIOException 读取失败时抛出
+     */
+    public static JsonNode parseTree(Reader reader) {
+        return new JsonParser(JsonSource.of(reader)).parseTreeDocument();
+    }
+
+    /**
+     * 将JSON解析为扁平的 JsonTape，整个文档只占用两个数组，顶层可以是任意JSON值
+     *
+     * @param json JSON字符串
+     * @return 解析结果
+     */
+    public static JsonTape parseTape(String json) {
+        return JsonTape.build(new JsonReader(json));
+    }
+
+    /**
+     * 将UTF-8字节数组解析为扁平的 JsonTape，整个文档只占用两个数组，顶层可以是任意JSON值
+     *
+     * @param utf8 UTF-8编码的JSON
+     * @return 解析结果
+     */
+    public static JsonTape parseTape(byte[] utf8) {
+        return JsonTape.build(new JsonReader(utf8));
+    }
+
+    /**
+     * 从输入流读取UTF-8编码的JSON并解析为 JsonTape，输入流由调用方负责关闭
+     *
+     * @param in UTF-8编码的JSON输入流
+     * @return 解析结果
+     * @throws java.io.UncheckedIOException 读取输入流失败时抛出
+     */
+    public static JsonTape parseTape(InputStream in) {
+        return JsonTape.build(new JsonReader(in));
+    }
+
+    /**
+     * 以内存映射方式读取JSON文件并解析为 JsonTape，适合在大文件上反复查询
+     * 文件本身可以超过2GB，但 JsonTape 的磁带最多约二十亿个条目、字符串区最多约二十亿个char（见 JsonTape 的说明），
+     * 值特别多或字符串特别长的文件会超出上限
+     *
+     * @param path UTF-8编码的JSON文件
+     * @return 解析结果
+     * @throws java.io.UncheckedIOException 打开或读取文件失败时抛出
+     * @throws IllegalArgumentException 文件不是有效的JSON或超出 JsonTape 的容量上限时抛出
+     */
+    public static JsonTape parseTape(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return JsonTape.build(new JsonReader(JsonSource.of(channel)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
     /**
-     * 分割JSON数组中的元素，支持嵌套结构
+     * 延迟解析JSON字符串，第一遍只记录各个值的位置，某个字段或元素第一次被访问时才解析并缓存
+     * 返回的Map/List只读，且不能在多个线程间共享；顶层必须是对象或数组
      *
-     * @param content JSON数组内容（去掉外层括号）
-     * @return 分割后的元素列表
+     * @param json JSON字符串
+     * @return 延迟解析的Map或List
      */
-    private static List<String> splitJsonArray(String content) {
-        List<String> result = new ArrayList<>();
-        int bracketLevel = 0;
-        StringBuilder currentItem = new StringBuilder();
-        boolean inQuotes = false;
+    public static Object parseLazy(String json) {
+        return LazyJson.parseDocument(JsonSource.of(json));
+    }
 
-        for (char c : content.toCharArray()) {
-            // 检查是否是引号，注意转义字符
-            if (c == '\"' && (currentItem.length() == 0 || currentItem.charAt(currentItem.length() - 1) != '\\')) {
-                inQuotes = !inQuotes;
-            }
+    /**
+     * 延迟解析UTF-8字节数组，第一遍只记录各个值的位置，某个字段或元素第一次被访问时才解析并缓存
+     * 返回的Map/List引用该数组，解析完成前不应修改数组内容；只读，且不能在多个线程间共享
+     *
+     * @param utf8 UTF-8编码的JSON
+     * @return 延迟解析的Map或List
+     */
+    public static Object parseLazy(byte[] utf8) {
+        return LazyJson.parseDocument(JsonSource.of(utf8, 0, utf8.length));
+    }
 
-            if (!inQuotes) {
-                // 处理括号层级
-                if (c == ',' && bracketLevel == 0) {
-                    result.add(currentItem.toString().trim());
-                    currentItem.setLength(0);
-                    continue;
-                } else if (c == '{' || c == '[') {
-                    bracketLevel++; // 进入新的对象或数组
-                } else if (c == '}' || c == ']') {
-                    bracketLevel--; // 退出对象或数组
-                }
-            }
+    /**
+     * 以事件驱动方式解析JSON字符串，每读到一个记号就回调handler，不构建Map/List
+     *
+     * @param json    JSON字符串
+     * @param handler 事件回调
+     */
+    public static void parse(String json, JsonHandler handler) {
+        dispatch(new JsonReader(json), handler);
+    }
 
-            currentItem.append(c);
+    /**
+     * 以事件驱动方式解析UTF-8字节数组，每读到一个记号就回调handler，不构建Map/List
+     *
+     * @param utf8    UTF-8编码的JSON
+     * @param handler 事件回调
+     */
+    public static void parse(byte[] utf8, JsonHandler handler) {
+        dispatch(new JsonReader(utf8), handler);
+    }
+
+    /**
+     * 以事件驱动方式解析UTF-8输入流，内存占用与输入大小无关
+     * 输入流由调用方负责关闭
+     *
+     * @param in      UTF-8编码的JSON输入流
+     * @param handler 事件回调
+     * @throws java.io.UncheckedIOException 读取输入流失败时抛出
+     */
+    public static void parse(InputStream in, JsonHandler handler) {
+        dispatch(new JsonReader(in), handler);
+    }
+
+    /**
+     * 以事件驱动方式解析Reader中的JSON，内存占用与输入大小无关
+     * Reader由调用方负责关闭
+     *
+     * @param reader  JSON字符输入
+     * @param handler 事件回调
+     * @throws java.io.UncheckedIOException 读取失败时抛出
+     */
+    public static void parse(Reader reader, JsonHandler handler) {
+        dispatch(new JsonReader(reader), handler);
+    }
+
+    /**
+     * 逐条读取NDJSON（每行一个JSON值）输入流，可作为Iterator使用或通过 stream() 转为Stream
+     *
+     * @param in       UTF-8编码的输入流，关闭读取器时一并关闭
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 记录读取器，用完后需要关闭
+     */
+    public static NdjsonReader readNdjson(InputStream in, JsonFeature... features) {
+        return new NdjsonReader(in, features);
+    }
+
+    /**
+     * 逐条读取NDJSON文件
+     *
+     * @param path     文件路径
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 记录读取器，用完后需要关闭
+     * @throws java.io.UncheckedIOException 打开文件失败时抛出
+     */
+    public static NdjsonReader readNdjson(Path path, JsonFeature... features) {
+        return new NdjsonReader(open(path), features);
+    }
+
+    /**
+     * 读取NDJSON输入流，记录分批在pool上并行解析，返回顺序与输入一致
+     *
+     * @param in       UTF-8编码的输入流，关闭读取器时一并关闭
+     * @param pool     执行解析的线程池
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 记录读取器，用完后需要关闭
+     */
+    public static NdjsonReader readNdjsonParallel(InputStream in, ForkJoinPool pool, JsonFeature... features) {
+        return new NdjsonReader(in, pool, features);
+    }
+
+    /**
+     * 读取NDJSON文件，记录分批在pool上并行解析，返回顺序与输入一致
+     *
+     * @param path     文件路径
+     * @param pool     执行解析的线程池
+     * @param features 可选的解析特性，见 JsonFeature
+     * @return 记录读取器，用完后需要关闭
+     * @throws java.io.UncheckedIOException 打开文件失败时抛出
+     */
+    public static NdjsonReader readNdjsonParallel(Path path, ForkJoinPool pool, JsonFeature... features) {
+        return new NdjsonReader(open(path), pool, features);
+    }
+
+    private static InputStream open(Path path) {
+        try {
+            return Files.newInputStream(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+    }
 
-        if (currentItem.length() > 0) {
-            result.add(currentItem.toString().trim());
+    /**
+     * 把读取器中剩余的记号逐个转发给handler
+     */
+    private static void dispatch(JsonReader reader, JsonHandler handler) {
+        JsonToken token;
+        while ((token = reader.nextToken()) != null) {
+            switch (token) {
+                case START_OBJECT:
+                    handler.startObject();
+                    break;
+                case END_OBJECT:
+                    handler.endObject();
+                    break;
+                case START_ARRAY:
+                    handler.startArray();
+                    break;
+                case END_ARRAY:
+                    handler.endArray();
+                    break;
+                case FIELD_NAME:
+                    handler.key(reader.currentName());
+                    break;
+                case VALUE_STRING:
+                    handler.value(reader.getString());
+                    break;
+                case VALUE_NUMBER_INT:
+                    if (reader.fitsLong()) {
+                        handler.value(reader.getLong());
+                    } else {
+                        handler.value((BigInteger) reader.getNumber());
+                    }
+                    break;
+                case VALUE_NUMBER_FLOAT:
+                    double value = reader.getDouble();
+                    if (Double.isInfinite(value)) {
+                        handler.value(reader.getBigDecimal());
+                    } else {
+                        handler.value(value);
+                    }
+                    break;
+                case VALUE_TRUE:
+                    handler.value(true);
+                    break;
+                case VALUE_FALSE:
+                    handler.value(false);
+                    break;
+                default:
+                    handler.nullValue();
+                    break;
+            }
         }
+    }
 
-        return result;
+    /**
+     * 将任意对象序列化为JSON字符串，普通Java对象按字段写成JSON对象，
+     * Map、List和其他受支持的类型与 toJsonObject/toJsonArray 的输出相同
+     *
+     * @param value 要序列化的对象
+     * @return JSON字符串
+     */
+    public static String toJson(Object value) {
+        CharJsonWriter writer = new CharJsonWriter();
+        try {
+            writer.writeValue(value);
+            return writer.toString();
+        } finally {
+            writer.release();
+        }
     }
 
     /**
@@ -191,13 +558,13 @@ public class JsonUtil {
      * @return 表示Map的JSON字符串
      */
     public static String toJsonObject(Map<String, Object> map) {
-        StringBuilder sb = new StringBuilder("{");
-        map.forEach((key, value) -> sb.append("\"").append(key).append("\":").append(toJsonValue(value)).append(","));
-        if (!map.isEmpty()) {
-            sb.setLength(sb.length() - 1); // 移除末尾的逗号
+        CharJsonWriter writer = new CharJsonWriter();
+        try {
+            writer.writeObject(map);
+            return writer.toString();
+        } finally {
+            writer.release();
         }
-        sb.append("}");
-        return sb.toString();
     }
 
     /**
@@ -207,30 +574,92 @@ public class JsonUtil {
      * @return 表示List的JSON数组字符串
      */
     public static String toJsonArray(List<Object> list) {
-        StringBuilder sb = new StringBuilder("[");
-        list.forEach(item -> sb.append(toJsonValue(item)).append(","));
-        if (!list.isEmpty()) {
-            sb.setLength(sb.length() - 1); // 移除末尾的逗号
+        CharJsonWriter writer = new CharJsonWriter();
+        try {
+            writer.writeArray(list);
+            return writer.toString();
+        } finally {
+            writer.release();
+        }
+    }
+
+    /**
+     * 将Java对象（Map、List、JsonNode或标量）序列化为UTF-8字节数组，不经过中间字符串
+     *
+     * @param value 要序列化的对象
+     * @return UTF-8编码的JSON
+     */
+    public static byte[] toJsonBytes(Object value) {
+        Utf8JsonWriter writer = new Utf8JsonWriter();
+        try {
+            writer.writeValue(value);
+            return writer.toByteArray();
+        } finally {
+            writer.release();
         }
-        sb.append("]");
-        return sb.toString();
     }
 
     /**
-     * 将Java对象转换为JSON值字符串
+     * 将Java对象（Map、List、JsonNode或标量）序列化后直接写入out，不生成中间字符串
+     *
+     * @param value 要序列化的对象
+     * @param out   输出目标，例如 Writer 或 StringBuilder
+     * @throws java.io.UncheckedIOException 写入失败时抛出
+     */
+    public static void writeJson(Object value, Appendable out) {
+        write(new CharJsonWriter(out), value);
+    }
+
+    /**
+     * 将Java对象（Map、List、JsonNode或标量）直接编码为UTF-8字节写入输出流
+     * 输出流只会被刷新，不会被关闭
      *
-     * @param value Java对象
-     * @return JSON值字符串
+     * @param value 要序列化的对象
+     * @param out   输出流
+     * @throws java.io.UncheckedIOException 写入失败时抛出
      */
-    private static String toJsonValue(Object value) {
-        if (value instanceof String) {
-            return "\"" + value + "\"";
-        } else if (value instanceof Map) {
-            return toJsonObject((Map<String, Object>) value);
-        } else if (value instanceof List) {
-            return toJsonArray((List<Object>) value);
-        } else {
-            return String.valueOf(value);
+    public static void writeJson(Object value, OutputStream out) {
+        write(new Utf8JsonWriter(out), value);
+    }
+
+    /**
+     * 将Java对象（Map、List、JsonNode或标量）直接编码为UTF-8字节写入ByteBuffer，写入后position向后移动
+     *
+     * @param value 要序列化的对象
+     * @param out   目标ByteBuffer
+     * @throws java.nio.BufferOverflowException 剩余空间不足时抛出
+     */
+    public static void writeJson(Object value, ByteBuffer out) {
+        write(new Utf8JsonWriter(out), value);
+    }
+
+    /**
+     * 把每条记录写成一行，以NDJSON格式输出到out，所有记录共用一个输出缓冲区
+     * 输出流只会被刷新，不会被关闭
+     *
+     * @param records 要写入的记录
+     * @param out     输出流
+     * @throws java.io.UncheckedIOException 写入失败时抛出
+     */
+    public static void writeNdjson(Iterable<?> records, OutputStream out) {
+        Utf8JsonWriter writer = new Utf8JsonWriter(out);
+        try {
+            for (Object record : records) {
+                writer.writeValue(record);
+                writer.writeAscii('\n');
+            }
+            writer.flush();
+        } finally {
+            writer.release();
+        }
+    }
+
+    private static void write(JsonWriter writer, Object value) {
+        try {
+            writer.writeValue(value);
+            writer.flush();
+        } finally {
+            writer.release();
         }
     }
 
@@ -0,0 +1,225 @@
+package cn.langya;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 流式JSON序列化器，直接把Map/List树写入缓冲区，不再为每一层嵌套生成中间字符串
+ * 树的遍历在这里完成，具体输出字符还是UTF-8字节由子类决定
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+abstract class JsonWriter {
+    /**
+     * ASCII字符的转义表：0表示无需转义，-1表示写成六个字符的unicode转义，其他值是反斜杠之后的字符
+     */
+    static final int[] ESCAPES = new int[128];
+    static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    static {
+        for (int i = 0; i < 0x20; i++) {
+            ESCAPES[i] = -1;
+        }
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\r'] = 'r';
+        ESCAPES['\t'] = 't';
+    }
+
+    /**
+     * 写入任意受支持的值：Map、List、JsonNode、字符串和基本数字类型，
+     * 其他对象按 TypeBinder 的规则写出（普通Java对象写成JSON对象）
+     */
+    void writeValue(Object value) {
+        if (value instanceof String) {
+            writeString((String) value);
+        } else if (value instanceof JsonNode) {
+            writeNode((JsonNode) value);
+        } else if (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            writeLong(((Number) value).longValue());
+        } else if (value instanceof Double) {
+            writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            writeFloat((Float) value);
+        } else if (value instanceof Map) {
+            writeObject((Map<?, ?>) value);
+        } else if (value instanceof List) {
+            writeArray((List<?>) value);
+        } else if (value == null || value instanceof Boolean || value instanceof Number) {
+            writeRaw(String.valueOf(value));
+        } else {
+            TypeBinder.of(value.getClass()).write(this, value);
+        }
+    }
+
+    /**
+     * 写入JSON对象，不是字符串的键按 String.valueOf 写成字符串
+     */
+    void writeObject(Map<?, ?> map) {
+        if (map instanceof CompactMap) {
+            writeCompactObject((CompactMap) map);
+            return;
+        }
+        writeAscii('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                writeAscii(',');
+            }
+            first = false;
+            writeString(String.valueOf(entry.getKey()));
+            writeAscii(':');
+            writeValue(entry.getValue());
+        }
+        writeAscii('}');
+    }
+
+    private void writeCompactObject(CompactMap map) {
+        writeAscii('{');
+        for (int i = 0, size = map.size(); i < size; i++) {
+            if (i > 0) {
+                writeAscii(',');
+            }
+            writeString(map.keyAt(i));
+            writeAscii(':');
+            writeValue(map.valueAt(i));
+        }
+        writeAscii('}');
+    }
+
+    void writeArray(List<?> list) {
+        if (list instanceof LongList || list instanceof DoubleList) {
+            writePrimitiveArray(list);
+            return;
+        }
+        writeAscii('[');
+        for (int i = 0, size = list.size(); i < size; i++) {
+            if (i > 0) {
+                writeAscii(',');
+            }
+            writeValue(list.get(i));
+        }
+        writeAscii(']');
+    }
+
+    /**
+     * 按节点类型分派写出，标量直接取基本类型值
+     */
+    void writeNode(JsonNode node) {
+        switch (node.kind) {
+            case OBJECT:
+                writeAscii('{');
+                boolean first = true;
+                for (Map.Entry<String, JsonNode> entry : ((ObjectNode) node).fields()) {
+                    if (!first) {
+                        writeAscii(',');
+                    }
+                    first = false;
+                    writeString(entry.getKey());
+                    writeAscii(':');
+                    writeNode(entry.getValue());
+                }
+                writeAscii('}');
+                break;
+            case ARRAY:
+                List<JsonNode> elements = ((ArrayNode) node).elements();
+                writeAscii('[');
+                for (int i = 0, size = elements.size(); i < size; i++) {
+                    if (i > 0) {
+                        writeAscii(',');
+                    }
+                    writeNode(elements.get(i));
+                }
+                writeAscii(']');
+                break;
+            case STRING:
+                writeString(node.stringValue());
+                break;
+            case LONG:
+                writeLong(node.longValue());
+                break;
+            case DOUBLE:
+                writeDouble(node.doubleValue());
+                break;
+            case BIG_NUMBER:
+                writeRaw(((BigNumberNode) node).numberValue().toString());
+                break;
+            case BOOLEAN:
+                writeRaw(node.booleanValue() ? "true" : "false");
+                break;
+            default:
+                writeRaw("null");
+                break;
+        }
+    }
+
+    /**
+     * 直接读取基本类型数组写出，不装箱
+     */
+    private void writePrimitiveArray(List<?> list) {
+        writeAscii('[');
+        if (list instanceof LongList) {
+            long[] values = ((LongList) list).array();
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writeAscii(',');
+                }
+                writeLong(values[i]);
+            }
+        } else {
+            double[] values = ((DoubleList) list).array();
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writeAscii(',');
+                }
+                writeDouble(values[i]);
+            }
+        }
+        writeAscii(']');
+    }
+
+    /**
+     * 写入带引号并已转义的字符串，不需要转义的连续片段整段写入
+     */
+    abstract void writeString(String value);
+
+    /**
+     * 写入整数，不经过中间字符串
+     */
+    abstract void writeLong(long value);
+
+    /**
+     * 写入小数的最短表示，NaN和无穷大写成 null
+     */
+    abstract void writeDouble(double value);
+
+    /**
+     * 写入float的最短表示，NaN和无穷大写成 null
+     */
+    abstract void writeFloat(float value);
+
+    /**
+     * 写入一个ASCII字符
+     */
+    abstract void writeAscii(char c);
+
+    /**
+     * 原样写入字符串
+     */
+    abstract void writeRaw(String s);
+
+    /**
+     * 把缓冲区中剩余的内容交给输出目标
+     */
+    abstract void flush();
+
+    /**
+     * 把缓冲区归还给 BufferRecycler，之后不能再使用本实例
+     */
+    abstract void release();
+}
@@ -0,0 +1,423 @@
+package cn.langya;
+
+import java.util.*;
+
+/**
+ * 延迟解析的Map/List视图
+ * 只对输入做一遍扫描，把每个对象、数组的键和值的区间记录进一个扁平的int数组，字符串不解码、键不取出；
+ * 第一次访问某个容器时才从记录中取出它的键，第一次访问某个值时才解析这一段并缓存结果，
+ * 嵌套的对象、数组直接使用已记录的区间，不会再次扫描输入。
+ * 只读取少数字段的大文档可以省下绝大部分的对象分配。
+ * 视图持有整个输入，语法错误在解析时抛出，字符串转义和数字的错误在访问时才抛出；缓存没有同步，不能在多个线程间共享
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+final class LazyJson {
+    /**
+     * 尚未解析的值
+     */
+    private static final Object UNSET = new Object();
+
+    /**
+     * 容器块的类型
+     */
+    private static final int OBJECT = 0;
+    private static final int ARRAY = 1;
+
+    /**
+     * 标量值的类型，记录在条目的最后一个int中；非负数表示嵌套容器块的下标
+     */
+    private static final int STRING = -1;
+    private static final int ESCAPED_STRING = -2;
+    private static final int NUMBER = -3;
+    private static final int TRUE = -4;
+    private static final int FALSE = -5;
+    private static final int NULL = -6;
+
+    /**
+     * 对象条目：键起点、键终点（含转义时取反）、值起点、值终点、值类型；数组条目只有后三项
+     */
+    private static final int OBJECT_ENTRY = 5;
+    private static final int ARRAY_ENTRY = 3;
+
+    /**
+     * 键的数量不超过此值时按顺序比较，不建散列表
+     */
+    private static final int LINEAR_SCAN = 8;
+
+    private LazyJson() {
+    }
+
+    /**
+     * 解析整个输入，顶层必须是对象或数组
+     *
+     * @return 延迟解析的Map或List
+     */
+    static Object parseDocument(JsonSource src) {
+        JsonReader reader = new JsonReader(src);
+        reader.skipNames();
+        JsonToken token = reader.nextToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+            throw reader.error("无效的JSON字符串");
+        }
+        Indexer indexer = new Indexer();
+        int root = indexer.index(reader, token);
+        reader.nextToken();
+        Document doc = new Document(src, indexer.data);
+        return token == JsonToken.START_OBJECT ? new LazyObject(doc, root) : new LazyArray(doc, root);
+    }
+
+    /**
+     * 一个文档的输入和索引，以及文档内所有视图取值时共用的缓冲区
+     */
+    private static final class Document {
+        final JsonSource src;
+        final int[] index;
+        private final JsonNumbers.Accumulator number = new JsonNumbers.Accumulator();
+        private StringBuilder scratch;
+
+        Document(JsonSource src, int[] index) {
+            this.src = src;
+            this.index = index;
+        }
+
+        /**
+         * 解析条目 e 记录的值，容器直接建立视图，数字直接从记录的区间累加
+         */
+        Object materialize(int e) {
+            int from = index[e];
+            int to = index[e + 1];
+            int kind = index[e + 2];
+            if (kind >= 0) {
+                return index[kind] == OBJECT ? new LazyObject(this, kind) : new LazyArray(this, kind);
+            }
+            switch (kind) {
+                case STRING:
+                    return src.text(from, to);
+                case ESCAPED_STRING:
+                    return decode(from, to);
+                case NUMBER:
+                    return JsonReader.parseNumber(src, from, to, number);
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                default:
+                    return null;
+            }
+        }
+
+        String decode(int from, int to) {
+            if (scratch == null) {
+                scratch = new StringBuilder(to - from);
+            }
+            return JsonReader.decode(src, from, to, scratch);
+        }
+    }
+
+    /**
+     * 一遍扫描建立索引
+     * 每个容器读完时把它的条目作为一块追加到 data：块的第一个int是容器类型，第二个是条目数，之后是各个条目。
+     * 子容器总在父容器之前写入，父容器的条目记录子容器块的下标；读取过程中每层嵌套的条目暂存在按深度复用的缓冲区里
+     */
+    private static final class Indexer {
+        private int[] data = new int[64];
+        private int size;
+        private int[][] frames = new int[8][];
+        private int[] lengths = new int[8];
+        private int[] kinds = new int[8];
+
+        /**
+         * @param reader 当前记号为顶层对象或数组的开始，读完后当前记号为对应的结束
+         * @return 顶层容器块的下标
+         */
+        int index(JsonReader reader, JsonToken first) {
+            int depth = 0;
+            open(depth, first == JsonToken.START_OBJECT ? OBJECT : ARRAY);
+            while (true) {
+                JsonToken token = reader.nextToken();
+                switch (token) {
+                    case FIELD_NAME:
+                        int keyEnd = reader.stringEnd();
+                        add(depth, reader.stringStart(), reader.stringEscaped() ? ~keyEnd : keyEnd);
+                        break;
+                    case START_OBJECT:
+                    case START_ARRAY:
+                        open(++depth, token == JsonToken.START_OBJECT ? OBJECT : ARRAY);
+                        break;
+                    case END_OBJECT:
+                    case END_ARRAY:
+                        int block = close(depth);
+                        if (depth == 0) {
+                            return block;
+                        }
+                        depth--;
+                        add(depth, 0, 0, block);
+                        break;
+                    case VALUE_STRING:
+                        add(depth, reader.stringStart(), reader.stringEnd(), reader.stringEscaped() ? ESCAPED_STRING : STRING);
+                        break;
+                    case VALUE_NUMBER_INT:
+                    case VALUE_NUMBER_FLOAT:
+                        add(depth, reader.stringStart(), reader.stringEnd(), NUMBER);
+                        break;
+                    case VALUE_TRUE:
+                        add(depth, 0, 0, TRUE);
+                        break;
+                    case VALUE_FALSE:
+                        add(depth, 0, 0, FALSE);
+                        break;
+                    default:
+                        add(depth, 0, 0, NULL);
+                        break;
+                }
+            }
+        }
+
+        private void open(int depth, int kind) {
+            if (depth == frames.length) {
+                frames = Arrays.copyOf(frames, depth * 2);
+                lengths = Arrays.copyOf(lengths, depth * 2);
+                kinds = Arrays.copyOf(kinds, depth * 2);
+            }
+            if (frames[depth] == null) {
+                frames[depth] = new int[16];
+            }
+            lengths[depth] = 0;
+            kinds[depth] = kind;
+        }
+
+        private void add(int depth, int a, int b) {
+            int[] frame = frames[depth];
+            int n = lengths[depth];
+            if (n + 2 > frame.length) {
+                frames[depth] = frame = Arrays.copyOf(frame, frame.length * 2);
+            }
+            frame[n] = a;
+            frame[n + 1] = b;
+            lengths[depth] = n + 2;
+        }
+
+        private void add(int depth, int from, int to, int kind) {
+            int[] frame = frames[depth];
+            int n = lengths[depth];
+            if (n + 3 > frame.length) {
+                frames[depth] = frame = Arrays.copyOf(frame, frame.length * 2);
+            }
+            frame[n] = from;
+            frame[n + 1] = to;
+            frame[n + 2] = kind;
+            lengths[depth] = n + 3;
+        }
+
+        /**
+         * 把第 depth 层暂存的条目写成一块
+         *
+         * @return 块的下标
+         */
+        private int close(int depth) {
+            int n = lengths[depth];
+            int kind = kinds[depth];
+            if (size + 2 + n > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, size + 2 + n));
+            }
+            int block = size;
+            data[block] = kind;
+            data[block + 1] = n / (kind == OBJECT ? OBJECT_ENTRY : ARRAY_ENTRY);
+            System.arraycopy(frames[depth], 0, data, block + 2, n);
+            size = block + 2 + n;
+            return block;
+        }
+    }
+
+    /**
+     * 延迟解析的JSON对象，保持字段顺序，重复的键保留第一次出现的位置和最后一次出现的值
+     */
+    static final class LazyObject extends AbstractMap<String, Object> {
+        private final Document doc;
+        private final String[] keys;
+        /**
+         * 第i个键对应的值在 index 中的条目下标（指向值起点）
+         */
+        private final int[] entries;
+        /**
+         * 开放寻址的散列表，槽中存放键的下标加一，0为空槽；键较少时为null，按顺序比较
+         */
+        private final int[] table;
+        private final Object[] values;
+
+        LazyObject(Document doc, int block) {
+            this.doc = doc;
+            int[] index = doc.index;
+            int count = index[block + 1];
+            String[] ks = new String[count];
+            int[] es = new int[count];
+            int[] slots = count > LINEAR_SCAN ? new int[Integer.highestOneBit(count) << 2] : null;
+            int n = 0;
+            for (int j = 0, e = block + 2; j < count; j++, e += OBJECT_ENTRY) {
+                int from = index[e];
+                int to = index[e + 1];
+                String key = to >= 0 ? doc.src.text(from, to) : doc.decode(from, ~to);
+                int found = find(ks, n, slots, key);
+                if (found >= 0) {
+                    es[found] = e + 2;
+                    continue;
+                }
+                if (slots != null) {
+                    slots[~found] = n + 1;
+                }
+                ks[n] = key;
+                es[n] = e + 2;
+                n++;
+            }
+            this.keys = n == count ? ks : Arrays.copyOf(ks, n);
+            this.entries = es;
+            this.table = slots;
+            this.values = new Object[n];
+            Arrays.fill(values, UNSET);
+        }
+
+        /**
+         * 在前n个键中查找 key
+         *
+         * @return 键的下标；找不到时有散列表则为可插入的空槽取反，否则为-1
+         */
+        private static int find(String[] keys, int n, int[] table, Object key) {
+            if (table == null) {
+                for (int i = 0; i < n; i++) {
+                    if (keys[i].equals(key)) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+            int mask = table.length - 1;
+            int h = key.hashCode();
+            int slot = (h ^ h >>> 16) & mask;
+            int i;
+            while ((i = table[slot]) != 0) {
+                if (keys[i - 1].equals(key)) {
+                    return i - 1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return ~slot;
+        }
+
+        private int indexOf(Object key) {
+            return key == null ? -1 : find(keys, keys.length, table, key);
+        }
+
+        private Object valueAt(int i) {
+            Object value = values[i];
+            if (value == UNSET) {
+                value = doc.materialize(entries[i]);
+                values[i] = value;
+            }
+            return value;
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        public Object get(Object key) {
+            int i = indexOf(key);
+            return i < 0 ? null : valueAt(i);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public int size() {
+                    return keys.length;
+                }
+
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<Entry<String, Object>>() {
+                        private int next;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < keys.length;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (next >= keys.length) {
+                                throw new NoSuchElementException();
+                            }
+                            int i = next++;
+                            return new SimpleImmutableEntry<>(keys[i], valueAt(i));
+                        }
+                    };
+                }
+            };
+        }
+
+        @Override
+        public Set<String> keySet() {
+            // 只遍历键时不解析任何值
+            return new AbstractSet<String>() {
+                @Override
+                public int size() {
+                    return keys.length;
+                }
+
+                @Override
+                public boolean contains(Object key) {
+                    return indexOf(key) >= 0;
+                }
+
+                @Override
+                public Iterator<String> iterator() {
+                    return Collections.unmodifiableList(Arrays.asList(keys)).iterator();
+                }
+            };
+        }
+    }
+
+    /**
+     * 延迟解析的JSON数组
+     */
+    static final class LazyArray extends AbstractList<Object> implements RandomAccess {
+        private final Document doc;
+        /**
+         * 第一个条目在 index 中的下标
+         */
+        private final int first;
+        private final Object[] values;
+
+        LazyArray(Document doc, int block) {
+            this.doc = doc;
+            this.first = block + 2;
+            this.values = new Object[doc.index[block + 1]];
+            Arrays.fill(values, UNSET);
+        }
+
+        @Override
+        public Object get(int i) {
+            Object value = values[i];
+            if (value == UNSET) {
+                value = doc.materialize(first + i * ARRAY_ENTRY);
+                values[i] = value;
+            }
+            return value;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package cn.langya;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * 由 long[] 支撑的定长List，解析全是整数的JSON数组时使用，每个元素只占8字节，不需要装箱
+ * 通过 {@link #getLong(int)} 或 {@link #array()} 可以直接读取基本类型，不产生任何对象
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class LongList extends AbstractList<Long> implements RandomAccess {
+    private final long[] values;
+
+    LongList(long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * @return 指定位置的值，不装箱
+     */
+    public long getLong(int index) {
+        return values[index];
+    }
+
+    /**
+     * @return 支撑本List的数组，长度等于 {@link #size()}，对数组的修改会反映到List上
+     */
+    public long[] array() {
+        return values;
+    }
+
+    @Override
+    public Long get(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Long set(int index, Long element) {
+        long old = values[index];
+        values[index] = element;
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+}
@@ -0,0 +1,51 @@
+package cn.langya;
+
+/**
+ * 整数节点，值以long保存，-128到127之间的值共享缓存的实例
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class LongNode extends JsonNode {
+    private static final LongNode[] CACHE = new LongNode[256];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new LongNode(i - 128);
+        }
+    }
+
+    private final long value;
+
+    private LongNode(long value) {
+        super(Kind.LONG);
+        this.value = value;
+    }
+
+    public static LongNode valueOf(long value) {
+        if (value >= -128 && value <= 127) {
+            return CACHE[(int) value + 128];
+        }
+        return new LongNode(value);
+    }
+
+    @Override
+    public long longValue() {
+        return value;
+    }
+
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LongNode && value == ((LongNode) o).value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+}
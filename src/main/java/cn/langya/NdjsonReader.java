@@ -0,0 +1,274 @@
+package cn.langya;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * NDJSON（JSON Lines）读取器，输入每行一个JSON值，逐条返回解析结果，空行被跳过
+ * 直接在字节缓冲区上解析，不为每行创建字符串。
+ * 顺序模式下只用一个 JsonParser 连续读完整个输入；并行模式下按换行把输入切成约256KB的批次，
+ * 各批次在ForkJoinPool上解析，按原顺序返回，同时在途的批次数有上限，内存占用不随输入增长。
+ * 报错位置是整个输入中的字节偏移（两种模式都不计开头的BOM），出错之前的记录照常返回，出错后不再返回记录
+ * <p>
+ * 每条记录应当只占一行；顺序模式下跨行的值也能读出，并行模式按换行切分批次，跨行的值会报错。
+ * 读取器本身不是线程安全的
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class NdjsonReader implements Iterator<Object>, Closeable {
+    static final int BATCH_SIZE = 1 << 18;
+
+    private final InputStream in;
+    private final JsonFeature[] features;
+    /**
+     * 顺序模式使用的解析器，并行模式下为null
+     */
+    private final JsonParser parser;
+    private final ForkJoinPool pool;
+    private final ArrayDeque<ForkJoinTask<Batch>> pending = new ArrayDeque<>();
+
+    /**
+     * 上一批次末尾不完整的一行
+     */
+    private byte[] carry = new byte[0];
+    private long offset;
+    /**
+     * 是否已经读取过输入，用于只在开头识别BOM
+     */
+    private boolean started;
+    private boolean eof;
+    private Batch current;
+    private int index;
+
+    private Object next;
+    private boolean ready;
+    private boolean done;
+
+    /**
+     * 顺序读取
+     *
+     * @param in       UTF-8编码的输入流，close 时一并关闭
+     * @param features 可选的解析特性，见 JsonFeature
+     */
+    public NdjsonReader(InputStream in, JsonFeature... features) {
+        this.in = in;
+        this.features = features;
+        this.parser = new JsonParser(JsonSource.of(in), features);
+        this.pool = null;
+    }
+
+    /**
+     * 在 pool 上并行解析，返回顺序与输入一致
+     *
+     * @param in       UTF-8编码的输入流，close 时一并关闭
+     * @param pool     执行解析的线程池
+     * @param features 可选的解析特性，见 JsonFeature
+     */
+    public NdjsonReader(InputStream in, ForkJoinPool pool, JsonFeature... features) {
+        this.in = in;
+        this.features = features;
+        this.parser = null;
+        this.pool = pool;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!ready) {
+            next = done ? JsonParser.END : advance();
+            ready = true;
+        }
+        return next != JsonParser.END;
+    }
+
+    /**
+     * @return 下一条记录：Map、List、String、Number、Boolean或null
+     * @throws IllegalArgumentException 记录格式错误时抛出
+     * @throws UncheckedIOException     读取失败时抛出
+     */
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ready = false;
+        return next;
+    }
+
+    /**
+     * @return 由剩余记录组成的有序顺序流，关闭流时关闭读取器
+     */
+    public Stream<Object> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * 关闭输入流，尚未开始的批次被取消
+     *
+     * @throws UncheckedIOException 关闭失败时抛出
+     */
+    @Override
+    public void close() {
+        done = true;
+        ready = false;
+        for (ForkJoinTask<Batch> task : pending) {
+            task.cancel(false);
+        }
+        pending.clear();
+        try {
+            in.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Object advance() {
+        try {
+            Object value = parser != null ? parser.nextLineValue() : nextParallel();
+            if (value == JsonParser.END) {
+                done = true;
+            }
+            return value;
+        } catch (RuntimeException e) {
+            done = true;
+            throw e;
+        }
+    }
+
+    private Object nextParallel() {
+        while (true) {
+            if (current != null) {
+                if (index < current.size) {
+                    return current.records[index++];
+                }
+                if (current.error != null) {
+                    throw current.error;
+                }
+                current = null;
+            }
+            submitBatches();
+            ForkJoinTask<Batch> task = pending.poll();
+            if (task == null) {
+                return JsonParser.END;
+            }
+            current = task.join();
+            index = 0;
+        }
+    }
+
+    /**
+     * 读取输入并提交批次，直到在途批次达到上限或输入结束
+     */
+    private void submitBatches() {
+        int capacity = Math.max(2, pool.getParallelism() * 2);
+        while (!eof && pending.size() < capacity) {
+            byte[] chunk = Arrays.copyOf(carry, Math.max(BATCH_SIZE, carry.length * 2));
+            int length = carry.length;
+            while (length < chunk.length) {
+                int n;
+                try {
+                    n = in.read(chunk, length, chunk.length - length);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (n < 0) {
+                    eof = true;
+                    break;
+                }
+                length += n;
+            }
+            if (!started) {
+                // 与顺序模式的 JsonSource.of(InputStream) 一样丢弃BOM，偏移量从BOM之后开始计算
+                started = true;
+                int bom = JsonSource.bomLength(chunk, 0, length);
+                length -= bom;
+                System.arraycopy(chunk, bom, chunk, 0, length);
+            }
+            int cut = eof ? length : lastNewline(chunk, length) + 1;
+            if (cut == 0 && !eof) {
+                // 一行超过了整个批次，扩大后继续读
+                carry = Arrays.copyOf(chunk, length);
+                continue;
+            }
+            carry = Arrays.copyOfRange(chunk, cut, length);
+            if (cut > 0) {
+                pending.add(pool.submit(new BatchTask(chunk, cut, offset)));
+            }
+            offset += cut;
+        }
+    }
+
+    private static int lastNewline(byte[] bytes, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 一个批次的解析结果
+     */
+    private static final class Batch {
+        Object[] records = new Object[64];
+        int size;
+        /**
+         * 解析到 size 条记录之后遇到的错误
+         */
+        RuntimeException error;
+
+        void add(Object record) {
+            if (size == records.length) {
+                records = Arrays.copyOf(records, size * 2);
+            }
+            records[size++] = record;
+        }
+    }
+
+    private final class BatchTask extends RecursiveTask<Batch> {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] bytes;
+        private final int length;
+        private final long start;
+
+        BatchTask(byte[] bytes, int length, long start) {
+            this.bytes = bytes;
+            this.length = length;
+            this.start = start;
+        }
+
+        @Override
+        protected Batch compute() {
+            // 报错位置统一为整个输入中的偏移
+            JsonSource src = JsonSource.wrap(bytes, 0, length);
+            src.base = start;
+            JsonParser batchParser = new JsonParser(src, features);
+            Batch batch = new Batch();
+            try {
+                Object value;
+                while ((value = batchParser.nextLineValue()) != JsonParser.END) {
+                    batch.add(value);
+                }
+            } catch (IllegalArgumentException e) {
+                batch.error = e;
+            }
+            return batch;
+        }
+    }
+}
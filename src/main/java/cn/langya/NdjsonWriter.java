@@ -0,0 +1,86 @@
+package cn.langya;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * NDJSON（JSON Lines）写入器，每条记录序列化为一行UTF-8编码的JSON
+ * 所有记录共用一个输出缓冲区，缓冲区写满时才交给输出流，不为每条记录生成字符串或字节数组。
+ * 写入器不是线程安全的
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class NdjsonWriter implements Flushable, Closeable {
+    private final OutputStream out;
+    private Utf8JsonWriter writer;
+
+    /**
+     * @param out 输出流，close 时一并关闭
+     */
+    public NdjsonWriter(OutputStream out) {
+        this.out = out;
+        this.writer = new Utf8JsonWriter(out);
+    }
+
+    /**
+     * 写入一条记录（Map、List、JsonNode或标量）及其后的换行
+     *
+     * @throws UncheckedIOException 写入失败时抛出
+     */
+    public void write(Object record) {
+        if (writer == null) {
+            throw new IllegalStateException("写入器已关闭");
+        }
+        writer.writeValue(record);
+        writer.writeAscii('\n');
+    }
+
+    /**
+     * 把缓冲区中的内容写入输出流并刷新
+     *
+     * @throws UncheckedIOException 写入失败时抛出
+     */
+    @Override
+    public void flush() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * 写出剩余内容，归还缓冲区并关闭输出流
+     *
+     * @throws UncheckedIOException 写入或关闭失败时抛出
+     */
+    @Override
+    public void close() {
+        if (writer == null) {
+            return;
+        }
+        RuntimeException failure = null;
+        try {
+            writer.flush();
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        writer.release();
+        writer = null;
+        try {
+            out.close();
+        } catch (IOException e) {
+            // 与try-with-resources一样，写出失败时关闭失败只作为被抑制的异常
+            if (failure == null) {
+                failure = new UncheckedIOException(e);
+            } else {
+                failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
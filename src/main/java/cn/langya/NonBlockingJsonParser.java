@@ -0,0 +1,494 @@
+package cn.langya;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * 非阻塞的增量JSON解析器，适合NIO服务端：数据按任意TCP分块到达时直接喂给 {@link #feed(ByteBuffer)}，
+ * 解析状态（字符串中间、数字中间、转义中间）跨分块保留，事件在数据到达时立即回调，无需先拼出完整消息。
+ * 只有跨越分块边界的那一个记号会被复制到内部缓冲区。
+ * <p>
+ * 输入是UTF-8字节；输入结束时调用 {@link #endOfInput()}。解析出错后实例不可再用
+ * <p>
+ * 与 JsonUtil.parse 只接受一个值不同，这是有意设计的流模式：同一个连接上可以连续发送多个顶层值，
+ * 每个值各自产生一组完整的事件。相邻的两个顶层值之间必须至少有一个空白字符（如换行），
+ * {@code {}{}}、{@code 1[2]} 这样紧挨着的值会报错。只需要一个值的调用方应在收到第一个值后自行拒绝后续内容
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class NonBlockingJsonParser {
+    // 嵌套上下文的状态
+    private static final int ROOT = 0;
+    private static final int EMPTY_OBJECT = 1;
+    private static final int OBJECT_KEY = 2;
+    private static final int OBJECT_COLON = 3;
+    private static final int OBJECT_VALUE = 4;
+    private static final int OBJECT_NEXT = 5;
+    private static final int EMPTY_ARRAY = 6;
+    private static final int ARRAY_VALUE = 7;
+    private static final int ARRAY_NEXT = 8;
+
+    // 正在读取的记号
+    private static final int M_NONE = 0;
+    private static final int M_STRING = 1;
+    private static final int M_ESCAPE = 2;
+    private static final int M_NUMBER = 3;
+    private static final int M_LITERAL = 4;
+
+    private final JsonHandler handler;
+
+    private int[] stack = new int[32];
+    private int depth = 1;
+
+    private int mode = M_NONE;
+    private boolean stringIsKey;
+    /**
+     * 当前字符串中是否出现过反斜杠
+     */
+    private boolean stringEscaped;
+    private StringBuilder scratch;
+    /**
+     * 对象键的符号表
+     */
+    private final SymbolTable symbols = new SymbolTable();
+    private final JsonNumbers.Accumulator number = new JsonNumbers.Accumulator();
+    private String literal;
+    private int literalIndex;
+    /**
+     * 刚结束一个顶层值，之后还没有遇到空白字符
+     */
+    private boolean adjacent;
+
+    /**
+     * 跨分块的记号内容
+     */
+    private byte[] token = new byte[64];
+    private int tokenLength;
+    /**
+     * 用于拷贝堆外ByteBuffer内容的暂存区
+     */
+    private byte[] directCopy;
+    /**
+     * 当前分块起点在整个输入中的偏移量，只用于报错定位
+     */
+    private long offset;
+    /**
+     * 当前字符串内容（开头引号之后）在整个输入中的偏移量，只用于报告转义错误的位置
+     */
+    private long stringOffset;
+
+    /**
+     * @param handler 解析事件回调
+     */
+    public NonBlockingJsonParser(JsonHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * @param listener 每解析完一个顶层值就以Map、List或标量的形式回调一次
+     */
+    public NonBlockingJsonParser(Consumer<Object> listener) {
+        this(new TreeBuilder(listener));
+    }
+
+    /**
+     * 喂入一块数据，buffer的全部剩余字节都会被消费
+     *
+     * @param buffer UTF-8编码的数据块
+     */
+    public void feed(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            feed(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return;
+        }
+        if (directCopy == null) {
+            directCopy = new byte[JsonSource.BUFFER_SIZE];
+        }
+        while (buffer.hasRemaining()) {
+            int n = Math.min(directCopy.length, buffer.remaining());
+            buffer.get(directCopy, 0, n);
+            feed(directCopy, 0, n);
+        }
+    }
+
+    /**
+     * 喂入一块数据
+     *
+     * @param bytes  UTF-8编码的数据
+     * @param off    起始下标
+     * @param length 字节数
+     */
+    public void feed(byte[] bytes, int off, int length) {
+        int end = off + length;
+        int from = mode == M_STRING || mode == M_ESCAPE || mode == M_NUMBER ? off : -1; // 本分块中当前记号的起点
+        int i = off;
+        while (i < end) {
+            int c = bytes[i] & 0xFF;
+            switch (mode) {
+                case M_STRING:
+                    if (from < 0) {
+                        from = i;
+                    }
+                    while (c != '"' && c != '\\' && c >= 0x20) {
+                        if (++i == end) {
+                            break;
+                        }
+                        c = bytes[i] & 0xFF;
+                    }
+                    if (i == end) {
+                        continue;
+                    }
+                    if (c < 0x20) {
+                        throw error("字符串中的控制字符必须转义", i - off);
+                    }
+                    i++;
+                    if (c == '\\') {
+                        mode = M_ESCAPE;
+                        stringEscaped = true;
+                        continue;
+                    }
+                    finishString(bytes, from, i - 1);
+                    from = -1;
+                    mode = M_NONE;
+                    continue;
+                case M_ESCAPE:
+                    i++;
+                    mode = M_STRING;
+                    continue;
+                case M_NUMBER:
+                    if (isNumberPart(c)) {
+                        i++;
+                        continue;
+                    }
+                    finishNumber(bytes, from, i, off);
+                    from = -1;
+                    mode = M_NONE;
+                    break;
+                case M_LITERAL:
+                    if (c != literal.charAt(literalIndex)) {
+                        throw error("无效的JSON值", i - off);
+                    }
+                    i++;
+                    if (++literalIndex == literal.length()) {
+                        mode = M_NONE;
+                        finishLiteral();
+                    }
+                    continue;
+                default:
+                    break;
+            }
+            i++;
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                adjacent = false;
+                continue;
+            }
+            if (structural(c, i - 1 - off)) {
+                from = i;
+                if (mode == M_STRING) {
+                    stringOffset = offset + (i - off);
+                }
+            }
+        }
+        // 分块结束时把未完成的记号保存下来
+        if (from >= 0 && (mode == M_STRING || mode == M_ESCAPE || mode == M_NUMBER)) {
+            appendToken(bytes, from, end);
+        }
+        offset += length;
+    }
+
+    /**
+     * 通知输入已经结束，结束顶层的数字，并检查是否有未完成的值
+     *
+     * @throws IllegalArgumentException 输入在值的中间结束时抛出
+     */
+    public void endOfInput() {
+        if (mode == M_NUMBER && depth == 1) {
+            finishNumber(null, 0, 0, 0);
+            mode = M_NONE;
+        }
+        if (mode != M_NONE || depth > 1) {
+            throw new IllegalArgumentException("JSON意外结束，位置: " + offset);
+        }
+    }
+
+    /**
+     * 处理记号之外的字符
+     *
+     * @return 是否开始了一个字符串或数字记号
+     */
+    private boolean structural(int c, int index) {
+        switch (stack[depth - 1]) {
+            case EMPTY_OBJECT:
+                if (c == '}') {
+                    endContainer(true);
+                    return false;
+                }
+                // 空对象的第一个键与逗号之后的键处理方式相同
+                return startKey(c, index);
+            case OBJECT_KEY:
+                return startKey(c, index);
+            case OBJECT_COLON:
+                if (c != ':') {
+                    throw error("此处应为 ':'", index);
+                }
+                stack[depth - 1] = OBJECT_VALUE;
+                return false;
+            case OBJECT_VALUE:
+                stack[depth - 1] = OBJECT_NEXT;
+                return startValue(c, index);
+            case OBJECT_NEXT:
+                if (c == ',') {
+                    stack[depth - 1] = OBJECT_KEY;
+                } else if (c == '}') {
+                    endContainer(true);
+                } else {
+                    throw error("JSON对象缺少 ',' 或 '}'", index);
+                }
+                return false;
+            case EMPTY_ARRAY:
+                if (c == ']') {
+                    endContainer(false);
+                    return false;
+                }
+                stack[depth - 1] = ARRAY_NEXT;
+                return startValue(c, index);
+            case ARRAY_VALUE:
+                stack[depth - 1] = ARRAY_NEXT;
+                return startValue(c, index);
+            case ARRAY_NEXT:
+                if (c == ',') {
+                    stack[depth - 1] = ARRAY_VALUE;
+                } else if (c == ']') {
+                    endContainer(false);
+                } else {
+                    throw error("JSON数组缺少 ',' 或 ']'", index);
+                }
+                return false;
+            default: // ROOT
+                if (adjacent) {
+                    throw error("顶层JSON值之间必须用空白分隔", index);
+                }
+                return startValue(c, index);
+        }
+    }
+
+    private boolean startKey(int c, int index) {
+        if (c != '"') {
+            throw error("JSON对象的键必须是字符串", index);
+        }
+        stack[depth - 1] = OBJECT_COLON;
+        mode = M_STRING;
+        stringIsKey = true;
+        stringEscaped = false;
+        return true;
+    }
+
+    /**
+     * 一个值解析完成，是顶层值时记下需要空白分隔
+     */
+    private void valueEnded() {
+        if (depth == 1) {
+            adjacent = true;
+        }
+    }
+
+    private boolean startValue(int c, int index) {
+        switch (c) {
+            case '{':
+                push(EMPTY_OBJECT);
+                handler.startObject();
+                return false;
+            case '[':
+                push(EMPTY_ARRAY);
+                handler.startArray();
+                return false;
+            case '"':
+                mode = M_STRING;
+                stringIsKey = false;
+                stringEscaped = false;
+                return true;
+            case 't':
+                startLiteral("true");
+                return false;
+            case 'f':
+                startLiteral("false");
+                return false;
+            case 'n':
+                startLiteral("null");
+                return false;
+            default:
+                if (c == '-' || c >= '0' && c <= '9') {
+                    mode = M_NUMBER;
+                    tokenLength = 0;
+                    appendToken((byte) c);
+                    // 首字符已经记入token，之后的字符从下一个位置开始
+                    return true;
+                }
+                throw error("无效的JSON值", index);
+        }
+    }
+
+    private void startLiteral(String value) {
+        mode = M_LITERAL;
+        literal = value;
+        literalIndex = 1;
+    }
+
+    private void finishLiteral() {
+        if (literal.charAt(0) == 't') {
+            handler.value(true);
+        } else if (literal.charAt(0) == 'f') {
+            handler.value(false);
+        } else {
+            handler.nullValue();
+        }
+        valueEnded();
+    }
+
+    private void push(int context) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = context;
+    }
+
+    private void endContainer(boolean object) {
+        depth--;
+        if (object) {
+            handler.endObject();
+        } else {
+            handler.endArray();
+        }
+        valueEnded();
+    }
+
+    /**
+     * 字符串结束，内容位于 token（跨分块部分）加上 bytes[from, to)
+     */
+    private void finishString(byte[] bytes, int from, int to) {
+        if (tokenLength > 0) {
+            appendToken(bytes, from, to);
+            bytes = token;
+            from = 0;
+            to = tokenLength;
+            tokenLength = 0;
+        }
+        String value;
+        if (!stringEscaped) {
+            value = stringIsKey ? symbols.lookup(bytes, from, to) : new String(bytes, from, to - from, StandardCharsets.UTF_8);
+        } else {
+            if (scratch == null) {
+                scratch = new StringBuilder();
+            }
+            // 报错位置换算为整个输入中的偏移，与 JsonReader 一致
+            JsonSource src = JsonSource.wrap(bytes, from, to);
+            src.base = stringOffset - from;
+            value = JsonReader.decode(src, from, to, scratch);
+        }
+        if (stringIsKey) {
+            handler.key(value);
+        } else {
+            handler.value(value);
+            valueEnded();
+        }
+    }
+
+    /**
+     * 数字结束，内容位于 token（首字符及跨分块部分）加上 bytes[from, to)
+     */
+    private void finishNumber(byte[] bytes, int from, int to, int chunkStart) {
+        if (bytes != null) {
+            appendToken(bytes, from, to);
+        }
+        byte[] digits = token;
+        int length = tokenLength;
+        tokenLength = 0;
+        boolean negative = digits[0] == '-';
+        int i = negative ? 1 : 0;
+        number.reset(negative);
+        int start = i;
+        while (i < length && digits[i] >= '0' && digits[i] <= '9') {
+            number.integerDigit(digits[i++] - '0');
+        }
+        // 整数部分不能以多余的0开头
+        boolean valid = i > start && (digits[start] != '0' || i == start + 1);
+        boolean integer = true;
+        if (valid && i < length && digits[i] == '.') {
+            start = ++i;
+            while (i < length && digits[i] >= '0' && digits[i] <= '9') {
+                number.fractionDigit(digits[i++] - '0');
+            }
+            valid = i > start;
+            integer = false;
+        }
+        if (valid && i < length && (digits[i] == 'e' || digits[i] == 'E')) {
+            boolean negativeExponent = ++i < length && digits[i] == '-';
+            if (i < length && (digits[i] == '+' || digits[i] == '-')) {
+                i++;
+            }
+            start = i;
+            int exponent = 0;
+            while (i < length && digits[i] >= '0' && digits[i] <= '9') {
+                if (exponent < JsonNumbers.MAX_EXPONENT) {
+                    exponent = exponent * 10 + digits[i] - '0';
+                }
+                i++;
+            }
+            valid = i > start;
+            integer = false;
+            number.exponent(negativeExponent ? -exponent : exponent);
+        }
+        if (!valid || i != length) {
+            throw error("无效的数字: " + new String(digits, 0, length, StandardCharsets.US_ASCII), to - chunkStart);
+        }
+        if (integer) {
+            if (number.fitsLong()) {
+                handler.value(number.longValue());
+            } else {
+                handler.value(new BigInteger(new String(digits, 0, length, StandardCharsets.US_ASCII)));
+            }
+            valueEnded();
+            return;
+        }
+        double value = number.doubleValue();
+        if (Double.isNaN(value)) {
+            value = Double.parseDouble(new String(digits, 0, length, StandardCharsets.US_ASCII));
+        }
+        if (Double.isInfinite(value)) {
+            handler.value(new BigDecimal(new String(digits, 0, length, StandardCharsets.US_ASCII)));
+        } else {
+            handler.value(value);
+        }
+        valueEnded();
+    }
+
+    private static boolean isNumberPart(int c) {
+        return c >= '0' && c <= '9' || c == '.' || c == '-' || c == '+' || c == 'e' || c == 'E';
+    }
+
+    private void appendToken(byte b) {
+        if (tokenLength == token.length) {
+            token = Arrays.copyOf(token, tokenLength * 2);
+        }
+        token[tokenLength++] = b;
+    }
+
+    private void appendToken(byte[] bytes, int from, int to) {
+        int n = to - from;
+        if (tokenLength + n > token.length) {
+            token = Arrays.copyOf(token, Math.max(token.length * 2, tokenLength + n));
+        }
+        System.arraycopy(bytes, from, token, tokenLength, n);
+        tokenLength += n;
+    }
+
+    private IllegalArgumentException error(String message, int index) {
+        return new IllegalArgumentException(message + "，位置: " + (offset + index));
+    }
+}
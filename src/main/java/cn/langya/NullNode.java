@@ -0,0 +1,15 @@
+package cn.langya;
+
+/**
+ * null节点，全局只有一个实例
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class NullNode extends JsonNode {
+    public static final NullNode INSTANCE = new NullNode();
+
+    private NullNode() {
+        super(Kind.NULL);
+    }
+}
@@ -0,0 +1,426 @@
+package cn.langya;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 不分配对象的数字格式化，直接写入调用方的字节缓冲区
+ * 小数使用Schubfach算法求出能精确还原原值的最短十进制表示，输出格式与 Double.toString 相同：
+ * 10^-3 <= |v| < 10^7 时为普通写法（整数值保留 ".0"），其余为 "1.5E-7" 这样的科学计数法；
+ * NaN和无穷大不是合法的JSON数字，写成 null
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+final class NumberFormatter {
+    /**
+     * 一个数字最多写出的字节数，例如 "-2.2250738585072014E-308"
+     */
+    static final int MAX_LENGTH = 24;
+
+    // double的参数
+    private static final int P = 53;
+    private static final int Q_MIN = -1074;
+    private static final long C_MIN = 1L << P - 1;
+    private static final int C_TINY = 3;
+    private static final int H = 17;
+
+    // float的参数
+    private static final int F_P = 24;
+    private static final int F_Q_MIN = -149;
+    private static final int F_C_MIN = 1 << F_P - 1;
+    private static final int F_C_TINY = 8;
+
+    private static final long MASK_63 = (1L << 63) - 1;
+    private static final int MASK_28 = (1 << 28) - 1;
+
+    /**
+     * 10^-k 的126位近似值 g = floor(10^-k * 2^-r) + 1，按 k 从 K_MIN 到 K_MAX 依次存放高63位和低63位
+     */
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+    private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+    private static final long[] POW10 = new long[H + 1];
+
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MIN_LONG = "-9223372036854775808".getBytes(StandardCharsets.US_ASCII);
+
+    static {
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            int r = flog2pow10(-k) - 125;
+            BigInteger g;
+            if (k <= 0) {
+                BigInteger pow = BigInteger.TEN.pow(-k);
+                g = r >= 0 ? pow.shiftRight(r) : pow.shiftLeft(-r);
+            } else {
+                g = BigInteger.ONE.shiftLeft(-r).divide(BigInteger.TEN.pow(k));
+            }
+            g = g.add(BigInteger.ONE);
+            int index = 2 * (k - K_MIN);
+            G[index] = g.shiftRight(63).longValue();
+            G[index + 1] = g.longValue() & MASK_63;
+        }
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    private NumberFormatter() {
+    }
+
+    /**
+     * 写入整数
+     *
+     * @return 写入后的位置
+     */
+    static int writeLong(long value, byte[] buf, int pos) {
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                System.arraycopy(MIN_LONG, 0, buf, pos, MIN_LONG.length);
+                return pos + MIN_LONG.length;
+            }
+            buf[pos++] = '-';
+            value = -value;
+        }
+        int end = pos + digitCount(value);
+        int i = end;
+        // 每次取出两位，从低位向高位写
+        while (value >= 100) {
+            long q = value / 100;
+            int r = (int) (value - q * 100);
+            value = q;
+            buf[--i] = (byte) ('0' + r % 10);
+            buf[--i] = (byte) ('0' + r / 10);
+        }
+        int r = (int) value;
+        buf[--i] = (byte) ('0' + r % 10);
+        if (r >= 10) {
+            buf[--i] = (byte) ('0' + r / 10);
+        }
+        return end;
+    }
+
+    private static int digitCount(long value) {
+        long p = 10;
+        for (int i = 1; i < 19; i++) {
+            if (value < p) {
+                return i;
+            }
+            p *= 10;
+        }
+        return 19;
+    }
+
+    /**
+     * 写入double的最短表示
+     *
+     * @return 写入后的位置
+     */
+    static int writeDouble(double v, byte[] buf, int pos) {
+        long bits = Double.doubleToRawLongBits(v);
+        long t = bits & C_MIN - 1;
+        int bq = (int) (bits >>> P - 1) & 0x7FF;
+        if (bq == 0x7FF) {
+            return writeNull(buf, pos);
+        }
+        if (bits < 0) {
+            buf[pos++] = '-';
+        }
+        if (bq != 0) {
+            // 规格化数，v = c * 2^q
+            int mq = -Q_MIN + 1 - bq;
+            long c = C_MIN | t;
+            // 小于2^53的整数直接输出
+            if (0 < mq && mq < P) {
+                long f = c >> mq;
+                if (f << mq == c) {
+                    return toChars(buf, pos, f, 0);
+                }
+            }
+            return toDecimal(buf, pos, -mq, c, 0);
+        }
+        if (t != 0) {
+            // 非规格化数
+            return t < C_TINY ? toDecimal(buf, pos, Q_MIN, 10 * t, -1) : toDecimal(buf, pos, Q_MIN, t, 0);
+        }
+        return writeZero(buf, pos);
+    }
+
+    /**
+     * 写入float的最短表示，按float的精度取位，不会出现转成double后多出的尾数
+     *
+     * @return 写入后的位置
+     */
+    static int writeFloat(float v, byte[] buf, int pos) {
+        int bits = Float.floatToRawIntBits(v);
+        int t = bits & F_C_MIN - 1;
+        int bq = bits >>> F_P - 1 & 0xFF;
+        if (bq == 0xFF) {
+            return writeNull(buf, pos);
+        }
+        if (bits < 0) {
+            buf[pos++] = '-';
+        }
+        if (bq != 0) {
+            int mq = -F_Q_MIN + 1 - bq;
+            int c = F_C_MIN | t;
+            if (0 < mq && mq < F_P) {
+                int f = c >> mq;
+                if (f << mq == c) {
+                    return toChars(buf, pos, f, 0);
+                }
+            }
+            return toDecimalFloat(buf, pos, -mq, c, 0);
+        }
+        if (t != 0) {
+            return t < F_C_TINY ? toDecimalFloat(buf, pos, F_Q_MIN, 10 * t, -1) : toDecimalFloat(buf, pos, F_Q_MIN, t, 0);
+        }
+        return writeZero(buf, pos);
+    }
+
+    private static int writeNull(byte[] buf, int pos) {
+        System.arraycopy(NULL, 0, buf, pos, NULL.length);
+        return pos + NULL.length;
+    }
+
+    private static int writeZero(byte[] buf, int pos) {
+        buf[pos++] = '0';
+        buf[pos++] = '.';
+        buf[pos++] = '0';
+        return pos;
+    }
+
+    /**
+     * 在 v = c * 2^q 的舍入区间内找出最短的十进制数 f * 10^e
+     */
+    private static int toDecimal(byte[] buf, int pos, int q, long c, int dk) {
+        int out = (int) c & 1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != C_MIN || q == Q_MIN) {
+            // 上下相邻的double间距相同
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            // c 是2的幂，下方的间距只有上方的一半
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+        int index = 2 * (k - K_MIN);
+        long g1 = G[index];
+        long g0 = G[index + 1];
+
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            // 先尝试少一位数字：sp10 = floor(s / 10) * 10
+            long sp10 = 10 * JsonNumbers.unsignedMultiplyHigh(s, 115292150460684698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return toChars(buf, pos, upin ? sp10 : tp10, k);
+            }
+        }
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return toChars(buf, pos, uin ? s : t, k + dk);
+        }
+        // s 和 t 都在区间内时取更接近的一个，一样近时取偶数
+        long cmp = vb - (s + t << 1);
+        return toChars(buf, pos, cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk);
+    }
+
+    private static int toDecimalFloat(byte[] buf, int pos, int q, int c, int dk) {
+        int out = c & 1;
+        long cb = (long) c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != F_C_MIN || q == F_Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 33;
+        long g = G[2 * (k - K_MIN)] + 1;
+
+        int vb = rop(g, cb << h);
+        int vbl = rop(g, cbl << h);
+        int vbr = rop(g, cbr << h);
+
+        int s = vb >> 2;
+        if (s >= 100) {
+            int sp10 = 10 * (int) (s * 1717986919L >>> 34);
+            int tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return toChars(buf, pos, upin ? sp10 : tp10, k);
+            }
+        }
+        int t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return toChars(buf, pos, uin ? s : t, k + dk);
+        }
+        int cmp = vb - (s + t << 1);
+        return toChars(buf, pos, cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk);
+    }
+
+    /**
+     * 计算 cp * g * 2^-127 并向奇数舍入，g = g1 * 2^63 + g0
+     */
+    private static long rop(long g1, long g0, long cp) {
+        long x1 = JsonNumbers.unsignedMultiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = JsonNumbers.unsignedMultiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    private static int rop(long g, long cp) {
+        long x1 = JsonNumbers.unsignedMultiplyHigh(g, cp);
+        long vbp = x1 >>> 31;
+        return (int) (vbp | (x1 & 0xFFFFFFFFL) + 0xFFFFFFFFL >>> 32);
+    }
+
+    /**
+     * 写出 f * 10^e，f 最多17位
+     */
+    private static int toChars(byte[] buf, int pos, long f, int e) {
+        // 把 f 补齐到17位，使 f * 10^e = 0.f * 10^e'
+        int len = flog10pow2(64 - Long.numberOfLeadingZeros(f));
+        if (f >= POW10[len]) {
+            len++;
+        }
+        f *= POW10[H - len];
+        e += len;
+        // 拆成最高1位 h、中间8位 m、最低8位 l，各段用int从左到右取数字
+        long hm = JsonNumbers.unsignedMultiplyHigh(f, 193428131138340668L) >>> 20;
+        int l = (int) (f - 100000000L * hm);
+        int h = (int) (hm * 1441151881L >>> 57);
+        int m = (int) (hm - 100000000L * h);
+        if (0 < e && e <= 7) {
+            // 普通写法，没有前导零
+            buf[pos++] = (byte) ('0' + h);
+            int y = y(m);
+            int i = 1;
+            for (; i < e; i++) {
+                int t = 10 * y;
+                buf[pos++] = (byte) ('0' + (t >>> 28));
+                y = t & MASK_28;
+            }
+            buf[pos++] = '.';
+            for (; i <= 8; i++) {
+                int t = 10 * y;
+                buf[pos++] = (byte) ('0' + (t >>> 28));
+                y = t & MASK_28;
+            }
+            return lowDigits(buf, pos, l);
+        }
+        if (-3 < e && e <= 0) {
+            // 普通写法，带前导零
+            buf[pos++] = '0';
+            buf[pos++] = '.';
+            for (; e < 0; e++) {
+                buf[pos++] = '0';
+            }
+            buf[pos++] = (byte) ('0' + h);
+            pos = append8Digits(buf, pos, m);
+            return lowDigits(buf, pos, l);
+        }
+        // 科学计数法
+        buf[pos++] = (byte) ('0' + h);
+        buf[pos++] = '.';
+        pos = append8Digits(buf, pos, m);
+        pos = lowDigits(buf, pos, l);
+        return exponent(buf, pos, e - 1);
+    }
+
+    private static int lowDigits(byte[] buf, int pos, int l) {
+        if (l != 0) {
+            pos = append8Digits(buf, pos, l);
+        }
+        // 去掉末尾的零，但保留小数点后的第一位
+        while (buf[pos - 1] == '0') {
+            pos--;
+        }
+        if (buf[pos - 1] == '.') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int append8Digits(byte[] buf, int pos, int m) {
+        int y = y(m);
+        for (int i = 0; i < 8; i++) {
+            int t = 10 * y;
+            buf[pos++] = (byte) ('0' + (t >>> 28));
+            y = t & MASK_28;
+        }
+        return pos;
+    }
+
+    /**
+     * 把8位整数 a 换算成28位定点小数 a / 10^8，之后每乘一次10，整数部分就是下一位数字
+     */
+    private static int y(int a) {
+        return (int) (JsonNumbers.unsignedMultiplyHigh((long) (a + 1) << 28, 193428131138340668L) >>> 20) - 1;
+    }
+
+    private static int exponent(byte[] buf, int pos, int e) {
+        buf[pos++] = 'E';
+        if (e < 0) {
+            buf[pos++] = '-';
+            e = -e;
+        }
+        if (e >= 100) {
+            int d = e * 1311 >>> 17;
+            buf[pos++] = (byte) ('0' + d);
+            e -= 100 * d;
+        } else if (e < 10) {
+            buf[pos++] = (byte) ('0' + e);
+            return pos;
+        }
+        int d = e * 103 >>> 10;
+        buf[pos++] = (byte) ('0' + d);
+        buf[pos++] = (byte) ('0' + e - 10 * d);
+        return pos;
+    }
+
+    /**
+     * floor(log10(2^e))
+     */
+    private static int flog10pow2(int e) {
+        return (int) (e * 661971961083L >> 41);
+    }
+
+    /**
+     * floor(log10(3/4 * 2^e))
+     */
+    private static int flog10threeQuartersPow2(int e) {
+        return (int) (e * 661971961083L - 274743187321L >> 41);
+    }
+
+    /**
+     * floor(log2(10^e))
+     */
+    private static int flog2pow10(int e) {
+        return e * 1741647 >> 19;
+    }
+}
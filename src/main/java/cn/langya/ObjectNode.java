@@ -0,0 +1,67 @@
+package cn.langya;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JSON对象节点，字段保持插入顺序
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class ObjectNode extends JsonNode {
+    private final Map<String, JsonNode> fields = new LinkedHashMap<>();
+
+    public ObjectNode() {
+        super(Kind.OBJECT);
+    }
+
+    @Override
+    public JsonNode get(String name) {
+        return fields.get(name);
+    }
+
+    public boolean has(String name) {
+        return fields.containsKey(name);
+    }
+
+    /**
+     * 设置字段，value为null时写入 {@link NullNode#INSTANCE}
+     *
+     * @return 本节点，便于链式调用
+     */
+    public ObjectNode put(String name, JsonNode value) {
+        fields.put(name, value == null ? NullNode.INSTANCE : value);
+        return this;
+    }
+
+    /**
+     * @return 被移除的值，不存在时返回null
+     */
+    public JsonNode remove(String name) {
+        return fields.remove(name);
+    }
+
+    @Override
+    public int size() {
+        return fields.size();
+    }
+
+    /**
+     * @return 全部字段，按插入顺序遍历，修改会反映到本节点
+     */
+    public Set<Map.Entry<String, JsonNode>> fields() {
+        return fields.entrySet();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ObjectNode && fields.equals(((ObjectNode) o).fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode();
+    }
+}
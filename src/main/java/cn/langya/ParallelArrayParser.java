@@ -0,0 +1,190 @@
+package cn.langya;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 并行解析顶层为超大数组的文档
+ * 先顺序扫描一遍，只跟踪嵌套深度和字符串边界，找出顶层逗号并按字节数切成若干段；
+ * 再在ForkJoinPool上并行解析各段，每段使用独立的 JsonParser，最后按原顺序拼接。
+ * 扫描不做语法检查，任何一段解析失败时整体改为顺序解析，报出与 JsonUtil.parseArray 相同的错误
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+final class ParallelArrayParser {
+    /**
+     * 小于此字节数的输入直接顺序解析
+     */
+    static final int MIN_PARALLEL_LENGTH = 1 << 20;
+    /**
+     * 每段的最小字节数
+     */
+    static final int MIN_CHUNK_LENGTH = 1 << 16;
+    /**
+     * 每个工作线程平均分到的段数，段数多于线程数才能抵消各段耗时的差异
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final JsonSource src;
+    private final ForkJoinPool pool;
+    private final JsonFeature[] features;
+
+    /**
+     * 第i段的区间为 [bounds[3i], bounds[3i+1])，包含 bounds[3i+2] 个元素
+     */
+    private int[] bounds = new int[48];
+    private int chunks;
+
+    ParallelArrayParser(JsonSource src, ForkJoinPool pool, JsonFeature... features) {
+        this.src = src;
+        this.pool = pool;
+        this.features = features;
+    }
+
+    /**
+     * 解析整个输入，顶层必须是数组
+     *
+     * @return 表示JSON数组的List
+     */
+    List<Object> parse() {
+        int length = src.limit - src.start;
+        if (length < MIN_PARALLEL_LENGTH || pool.getParallelism() < 2 || !split(length)) {
+            return sequential();
+        }
+        List<List<Object>> parts = new ArrayList<>(Collections.<List<Object>>nCopies(chunks, null));
+        try {
+            pool.invoke(new ChunkTask(parts, 0, chunks));
+        } catch (IllegalArgumentException e) {
+            // 报出第一个错误的位置，与顺序解析一致
+            return sequential();
+        }
+        int size = 0;
+        for (List<Object> part : parts) {
+            size += part.size();
+        }
+        List<Object> result = new ArrayList<>(size);
+        for (List<Object> part : parts) {
+            result.addAll(part);
+        }
+        return result;
+    }
+
+    private List<Object> sequential() {
+        return new JsonParser(src, features).parseArrayDocument();
+    }
+
+    /**
+     * 找出顶层逗号并切分
+     *
+     * @return 结构完整时返回true；括号不配对、字符串未闭合等情况返回false，交给顺序解析报错
+     */
+    private boolean split(int length) {
+        int target = Math.max(MIN_CHUNK_LENGTH, length / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        int end = src.limit;
+        int i = skipWhitespace(src.start, end);
+        if (i == end || src.at(i) != '[') {
+            return false;
+        }
+        int chunkStart = ++i;
+        int count = 0;
+        int depth = 1;
+        for (; i < end; i++) {
+            int c = src.at(i);
+            if (c == '"') {
+                i = closingQuote(i + 1, end);
+                if (i < 0) {
+                    return false;
+                }
+            } else if (c == '[' || c == '{') {
+                depth++;
+            } else if (c == ']' || c == '}') {
+                if (--depth == 0) {
+                    break;
+                }
+            } else if (c == ',' && depth == 1) {
+                count++;
+                if (i - chunkStart >= target) {
+                    addChunk(chunkStart, i, count);
+                    chunkStart = i + 1;
+                    count = 0;
+                }
+            }
+        }
+        if (depth != 0 || skipWhitespace(i + 1, end) != end) {
+            return false;
+        }
+        if (chunks > 0 || count > 0 || skipWhitespace(chunkStart, i) != i) {
+            addChunk(chunkStart, i, count + 1);
+        }
+        return chunks > 1;
+    }
+
+    private void addChunk(int from, int to, int count) {
+        if (chunks * 3 == bounds.length) {
+            bounds = Arrays.copyOf(bounds, bounds.length * 2);
+        }
+        bounds[chunks * 3] = from;
+        bounds[chunks * 3 + 1] = to;
+        bounds[chunks * 3 + 2] = count;
+        chunks++;
+    }
+
+    private int skipWhitespace(int from, int to) {
+        while (from < to && JsonReader.charClass(src.at(from)) == JsonReader.C_WS) {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * @return 从 from 开始的字符串内容之后的结束引号下标，没有时返回-1
+     */
+    private int closingQuote(int from, int to) {
+        while (true) {
+            int i = src.skipStringContent(from, to);
+            if (i >= to) {
+                return -1;
+            }
+            int c = src.at(i);
+            if (c == '"') {
+                return i;
+            }
+            // 反斜杠连同下一个字符一起跳过；控制字符留给解析时报错
+            from = c == '\\' ? i + 2 : i + 1;
+        }
+    }
+
+    /**
+     * 二分地把 [from, to) 段交给不同的工作线程
+     */
+    private final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<List<Object>> parts;
+        private final int from;
+        private final int to;
+
+        ChunkTask(List<List<Object>> parts, int from, int to) {
+            this.parts = parts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                int[] b = bounds;
+                JsonSource slice = src.slice(b[from * 3], b[from * 3 + 1]);
+                parts.set(from, new JsonParser(slice, features).parseArrayElements(b[from * 3 + 2]));
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(parts, from, mid), new ChunkTask(parts, mid, to));
+        }
+    }
+}
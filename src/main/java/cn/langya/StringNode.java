@@ -0,0 +1,34 @@
+package cn.langya;
+
+/**
+ * JSON字符串节点
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+public final class StringNode extends JsonNode {
+    private final String value;
+
+    public StringNode(String value) {
+        super(Kind.STRING);
+        if (value == null) {
+            throw new IllegalArgumentException("字符串节点的值不能为null");
+        }
+        this.value = value;
+    }
+
+    @Override
+    public String stringValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof StringNode && value.equals(((StringNode) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+}
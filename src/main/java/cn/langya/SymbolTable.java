@@ -0,0 +1,128 @@
+package cn.langya;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 对象键的符号表，同一个解析器内相同的键只创建一次String
+ * 直接在输入缓冲区上计算哈希（与 String.hashCode 相同），命中时返回已有的实例，不分配任何对象；
+ * 相同的键共享同一实例，之后的HashMap查找可以在引用比较时就命中。
+ * 只收录不含转义的ASCII短键，条目数有上限，键名不断变化的输入不会让表无限增长
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+final class SymbolTable {
+    static final int MAX_SYMBOLS = 4096;
+    static final int MAX_LENGTH = 64;
+
+    private String[] symbols = new String[64];
+    private int size;
+
+    /**
+     * @return [from, to) 区间的内容对应的字符串
+     */
+    String lookup(JsonSource src, int from, int to) {
+        int length = to - from;
+        if (length > MAX_LENGTH) {
+            return src.text(from, to);
+        }
+        int hash = 0;
+        int bits = 0;
+        for (int i = from; i < to; i++) {
+            int c = src.at(i);
+            hash = 31 * hash + c;
+            bits |= c;
+        }
+        if (bits >= 0x80) {
+            return src.text(from, to);
+        }
+        int mask = symbols.length - 1;
+        for (int i = spread(hash) & mask; ; i = i + 1 & mask) {
+            String symbol = symbols[i];
+            if (symbol == null) {
+                return add(i, src.text(from, to));
+            }
+            if (symbol.hashCode() == hash && symbol.length() == length && matches(symbol, src, from)) {
+                return symbol;
+            }
+        }
+    }
+
+    /**
+     * @return bytes[from, to) 区间的UTF-8内容对应的字符串
+     */
+    String lookup(byte[] bytes, int from, int to) {
+        int length = to - from;
+        if (length > MAX_LENGTH) {
+            return new String(bytes, from, length, StandardCharsets.UTF_8);
+        }
+        int hash = 0;
+        int bits = 0;
+        for (int i = from; i < to; i++) {
+            int c = bytes[i];
+            hash = 31 * hash + c;
+            bits |= c;
+        }
+        if (bits < 0) {
+            return new String(bytes, from, length, StandardCharsets.UTF_8);
+        }
+        int mask = symbols.length - 1;
+        for (int i = spread(hash) & mask; ; i = i + 1 & mask) {
+            String symbol = symbols[i];
+            if (symbol == null) {
+                return add(i, new String(bytes, from, length, StandardCharsets.US_ASCII));
+            }
+            if (symbol.hashCode() == hash && symbol.length() == length && matches(symbol, bytes, from)) {
+                return symbol;
+            }
+        }
+    }
+
+    private static boolean matches(String symbol, JsonSource src, int from) {
+        for (int i = 0; i < symbol.length(); i++) {
+            if (symbol.charAt(i) != src.at(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String symbol, byte[] bytes, int from) {
+        for (int i = 0; i < symbol.length(); i++) {
+            if (symbol.charAt(i) != bytes[from + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ hash >>> 16;
+    }
+
+    private String add(int index, String symbol) {
+        if (size == MAX_SYMBOLS) {
+            return symbol;
+        }
+        symbols[index] = symbol;
+        if (++size * 4 > symbols.length * 3) {
+            rehash();
+        }
+        return symbol;
+    }
+
+    private void rehash() {
+        String[] old = symbols;
+        symbols = new String[old.length * 2];
+        int mask = symbols.length - 1;
+        for (String symbol : old) {
+            if (symbol != null) {
+                int i = spread(symbol.hashCode()) & mask;
+                while (symbols[i] != null) {
+                    i = i + 1 & mask;
+                }
+                symbols[i] = symbol;
+            }
+        }
+    }
+}
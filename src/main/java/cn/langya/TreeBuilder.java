@@ -0,0 +1,116 @@
+package cn.langya;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 把事件流组装成Map/List树的JsonHandler，每完成一个顶层值就交给sink
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+final class TreeBuilder implements JsonHandler {
+    private final Consumer<Object> sink;
+    private Object[] containers = new Object[16];
+    private String[] keys = new String[16];
+    private int depth;
+
+    TreeBuilder(Consumer<Object> sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public void startObject() {
+        push(new HashMap<String, Object>());
+    }
+
+    @Override
+    public void key(String name) {
+        keys[depth - 1] = name;
+    }
+
+    @Override
+    public void endObject() {
+        add(pop());
+    }
+
+    @Override
+    public void startArray() {
+        push(new ArrayList<>());
+    }
+
+    @Override
+    public void endArray() {
+        add(pop());
+    }
+
+    @Override
+    public void value(long value) {
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            add((int) value);
+        } else {
+            add(value);
+        }
+    }
+
+    @Override
+    public void value(double value) {
+        add(value);
+    }
+
+    @Override
+    public void value(BigInteger value) {
+        add(value);
+    }
+
+    @Override
+    public void value(BigDecimal value) {
+        add(value);
+    }
+
+    @Override
+    public void value(String value) {
+        add(value);
+    }
+
+    @Override
+    public void value(boolean value) {
+        add(value);
+    }
+
+    @Override
+    public void nullValue() {
+        add(null);
+    }
+
+    private void push(Object container) {
+        if (depth == containers.length) {
+            containers = Arrays.copyOf(containers, depth * 2);
+            keys = Arrays.copyOf(keys, depth * 2);
+        }
+        containers[depth++] = container;
+    }
+
+    private Object pop() {
+        Object container = containers[--depth];
+        containers[depth] = null;
+        keys[depth] = null;
+        return container;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void add(Object value) {
+        if (depth == 0) {
+            sink.accept(value);
+            return;
+        }
+        Object container = containers[depth - 1];
+        if (container instanceof Map) {
+            ((Map<String, Object>) container).put(keys[depth - 1], value);
+        } else {
+            ((List<Object>) container).add(value);
+        }
+    }
+}
@@ -0,0 +1,709 @@
+package cn.langya;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * 一种Java类型与JSON之间的转换规则
+ * 按类缓存在 ClassValue 中，第一次使用某个类时生成，之后直接复用；
+ * 带泛型参数的集合类型在生成所属类的绑定信息时一次性解析。
+ * 读取时直接消费 JsonReader 的记号，不经过中间的Map/List。
+ * 普通Java对象优先使用通过 ServiceLoader 注册的 JsonBinder（通常由注解处理器生成），没有时才反射绑定
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+abstract class TypeBinder {
+    private static final ClassValue<TypeBinder> BINDERS = new ClassValue<TypeBinder>() {
+        @Override
+        protected TypeBinder computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    /**
+     * 没有声明类型的值，读写方式与 JsonUtil.parse 相同
+     */
+    static final TypeBinder UNTYPED = new TypeBinder(true) {
+        @Override
+        Object read(JsonReader reader) {
+            return new JsonParser(reader).readCurrent();
+        }
+
+        @Override
+        void write(JsonWriter writer, Object value) {
+            writer.writeValue(value);
+        }
+    };
+
+    /**
+     * 各个类加载器中通过 ServiceLoader 注册的 JsonBinder，按所绑定类的类名索引
+     * JsonBinder 只被弱引用，否则它引用的类会使作为弱键的类加载器永远无法回收；
+     * 已经用到的 JsonBinder 由 BINDERS 中的 RegisteredBinder 持有，尚未用到的被回收后再次查询时重新加载
+     */
+    private static final Map<ClassLoader, Map<String, WeakReference<JsonBinder<?>>>> REGISTERED = new WeakHashMap<>();
+
+    /**
+     * 值是否可以为null，基本类型为false
+     */
+    private final boolean nullable;
+
+    TypeBinder(boolean nullable) {
+        this.nullable = nullable;
+    }
+
+    /**
+     * @return type 对应的转换规则，同一个类总是返回同一个实例
+     */
+    static TypeBinder of(Class<?> type) {
+        return BINDERS.get(type);
+    }
+
+    /**
+     * 解析带泛型参数的类型，类型变量和通配符按上界处理
+     *
+     * @return type 对应的转换规则
+     */
+    static TypeBinder of(Type type) {
+        if (type instanceof Class) {
+            return of((Class<?>) type);
+        }
+        if (type instanceof ParameterizedType) {
+            Class<?> raw = (Class<?>) ((ParameterizedType) type).getRawType();
+            Type[] args = ((ParameterizedType) type).getActualTypeArguments();
+            if (Collection.class.isAssignableFrom(raw)) {
+                return new CollectionBinder(raw, of(args[0]));
+            }
+            if (Map.class.isAssignableFrom(raw)) {
+                return new MapBinder(raw, args[0], of(args[1]));
+            }
+            return of(raw);
+        }
+        if (type instanceof GenericArrayType) {
+            Type component = ((GenericArrayType) type).getGenericComponentType();
+            return new ArrayBinder(rawClass(component), of(component));
+        }
+        if (type instanceof WildcardType) {
+            return of(((WildcardType) type).getUpperBounds()[0]);
+        }
+        if (type instanceof TypeVariable) {
+            return of(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        return UNTYPED;
+    }
+
+    static Class<?> rawClass(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof GenericArrayType) {
+            return Array.newInstance(rawClass(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        }
+        if (type instanceof WildcardType) {
+            return rawClass(((WildcardType) type).getUpperBounds()[0]);
+        }
+        if (type instanceof TypeVariable) {
+            return rawClass(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    private static TypeBinder create(Class<?> type) {
+        TypeBinder scalar = scalar(type);
+        if (scalar != null) {
+            return scalar;
+        }
+        if (type.isEnum()) {
+            return new EnumBinder(type);
+        }
+        if (type.isArray()) {
+            return new ArrayBinder(type.getComponentType(), of(type.getComponentType()));
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return new CollectionBinder(type, UNTYPED);
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return new MapBinder(type, String.class, UNTYPED);
+        }
+        if (JsonNode.class.isAssignableFrom(type)) {
+            return new TypeBinder(true) {
+                @Override
+                Object read(JsonReader reader) {
+                    Object node = new JsonParser(reader).readCurrentNode();
+                    if (!type.isInstance(node)) {
+                        throw mismatch(reader, type);
+                    }
+                    return node;
+                }
+
+                @Override
+                void write(JsonWriter writer, Object value) {
+                    writer.writeNode((JsonNode) value);
+                }
+            };
+        }
+        if (type == Object.class) {
+            return UNTYPED;
+        }
+        if (Number.class.isAssignableFrom(type)) {
+            // AtomicInteger、LongAdder等可变的数字类型，读出的Integer/Long不能赋给这种字段
+            throw new IllegalArgumentException("不支持的数字类型: " + type.getName());
+        }
+        String name = type.getName();
+        if (name.startsWith("java.") || name.startsWith("javax.")) {
+            // JDK自带的其他类型（UUID、日期等）不能按字段绑定，写出为其字符串形式
+            return new ToStringBinder(type);
+        }
+        JsonBinder<?> registered = registered(type);
+        if (registered != null) {
+            return new RegisteredBinder(registered);
+        }
+        return new BeanBinder(type);
+    }
+
+    /**
+     * @return 为 type 注册的 JsonBinder，没有时返回null
+     */
+    private static JsonBinder<?> registered(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return null;
+        }
+        synchronized (REGISTERED) {
+            Map<String, WeakReference<JsonBinder<?>>> binders = REGISTERED.get(loader);
+            if (binders != null) {
+                WeakReference<JsonBinder<?>> ref = binders.get(type.getName());
+                if (ref == null) {
+                    return null;
+                }
+                JsonBinder<?> binder = ref.get();
+                if (binder != null) {
+                    return binder.type() == type ? binder : null;
+                }
+            }
+            binders = new HashMap<>();
+            JsonBinder<?> result = null;
+            for (JsonBinder<?> binder : ServiceLoader.load(JsonBinder.class, loader)) {
+                binders.put(binder.type().getName(), new WeakReference<JsonBinder<?>>(binder));
+                if (binder.type() == type) {
+                    result = binder;
+                }
+            }
+            REGISTERED.put(loader, binders);
+            return result;
+        }
+    }
+
+    /**
+     * 读取以读取器当前记号开始的值，读完后当前记号是该值的最后一个记号
+     *
+     * @throws IllegalArgumentException 值与类型不符时抛出
+     */
+    final Object readValue(JsonReader reader) {
+        if (reader.currentToken() == JsonToken.VALUE_NULL) {
+            if (!nullable) {
+                throw reader.error("基本类型的值不能为null");
+            }
+            return null;
+        }
+        return read(reader);
+    }
+
+    final void writeValue(JsonWriter writer, Object value) {
+        if (value == null) {
+            writer.writeRaw("null");
+        } else {
+            write(writer, value);
+        }
+    }
+
+    /**
+     * 读取一个非null的值
+     */
+    abstract Object read(JsonReader reader);
+
+    /**
+     * 写入一个非null的值
+     */
+    abstract void write(JsonWriter writer, Object value);
+
+    static IllegalArgumentException mismatch(JsonReader reader, Class<?> type) {
+        return reader.error("无法把 " + reader.currentToken() + " 转换为 " + type.getName());
+    }
+
+    /**
+     * @return 字符串、数字、布尔值和字符的转换规则，其他类型返回null
+     */
+    private static TypeBinder scalar(Class<?> type) {
+        boolean nullable = !type.isPrimitive();
+        if (type == String.class || type == CharSequence.class) {
+            return new TypeBinder(true) {
+                @Override
+                Object read(JsonReader reader) {
+                    return reader.getString();
+                }
+
+                @Override
+                void write(JsonWriter writer, Object value) {
+                    writer.writeString(value.toString());
+                }
+            };
+        }
+        if (type == int.class || type == Integer.class) {
+            return new TypeBinder(nullable) {
+                @Override
+                Object read(JsonReader reader) {
+                    return reader.getInt();
+                }
+
+                @Override
+                void write(JsonWriter writer, Object value) {
+                    writer.writeLong((Integer) value);
+                }
+            };
+        }
+        if (type == long.class || type == Long.class) {
+            return new TypeBinder(nullable) {
+                @Override
+                Object read(JsonReader reader) {
+                    return reader.getLong();
+                }
+
+                @Override
+                void write(JsonWriter writer, Object value) {
+                    writer.writeLong((Long) value);
+                }
+            };
+        }
+        if (type == short.class || type == Short.class || type == byte.class || type == Byte.class) {
+            boolean isShort = type == short.class || type == Short.class;
+            int min = isShort ? Short.MIN_VALUE : Byte.MIN_VALUE;
+            int max = isShort ? Short.MAX_VALUE : Byte.MAX_VALUE;
+            return new TypeBinder(nullable) {
+                @Override
+                Object read(JsonReader reader) {
+                    int value = reader.getInt();
+                    if (value < min || value > max) {
+                        throw reader.error("整数超出" + type.getSimpleName() + "范围: " + value);
+                    }
+                    return isShort ? (Object) (short) value : (Object) (byte) value;
+                }
+
+                @Override
+                void write(JsonWriter writer, Object value) {
+                    writer.writeLong(((Number) value).longValue());
+                }
+            };
+        }
+        if (type == double.class || type == Double.class) {
+            return new TypeBinder(nullable) {
+                @Override
+                Object read(JsonReader reader) {
+                    return reader.getDouble();
+                }
+
+                @Override
+                void write(JsonWriter writer, Object value) {
+                    writer.writeDouble((Double) value);
+                }
+            };
+        }
+        if (type == float.class || type == Float.class) {
+            return new TypeBinder(nullable) {
+                @Override
+                Object read(JsonReader reader) {
+                    return (float) reader.getDouble();
+                }
+
+                @Override
+                void write(JsonWriter writer, Object value) {
+                    writer.writeFloat((Float) value);
+                }
+            };
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return new TypeBinder(nullable) {
+                @Override
+                Object read(JsonReader reader) {
+                    return reader.getBoolean();
+                }
+
+                @Override
+                void write(JsonWriter writer, Object value) {
+                    writer.writeRaw((Boolean) value ? "true" : "false");
+                }
+            };
+        }
+        if (type == char.class || type == Character.class) {
+            return new TypeBinder(nullable) {
+                @Override
+                Object read(JsonReader reader) {
+                    String value = reader.getString();
+                    if (value.length() != 1) {
+                        throw reader.error("字符串长度不为1: " + value);
+                    }
+                    return value.charAt(0);
+                }
+
+                @Override
+                void write(JsonWriter writer, Object value) {
+                    writer.writeString(value.toString());
+                }
+            };
+        }
+        if (type == Number.class) {
+            return new TypeBinder(true) {
+                @Override
+                Object read(JsonReader reader) {
+                    return reader.getNumber();
+                }
+
+                @Override
+                void write(JsonWriter writer, Object value) {
+                    writer.writeValue(value);
+                }
+            };
+        }
+        if (type == BigDecimal.class || type == BigInteger.class) {
+            boolean decimal = type == BigDecimal.class;
+            return new TypeBinder(true) {
+                @Override
+                Object read(JsonReader reader) {
+                    BigDecimal value = reader.getBigDecimal();
+                    if (decimal) {
+                        return value;
+                    }
+                    try {
+                        return value.toBigIntegerExact();
+                    } catch (ArithmeticException e) {
+                        throw reader.error("无法把 " + value + " 转换为 java.math.BigInteger");
+                    }
+                }
+
+                @Override
+                void write(JsonWriter writer, Object value) {
+                    writer.writeRaw(value.toString());
+                }
+            };
+        }
+        return null;
+    }
+
+    /**
+     * 把读写交给注册的 JsonBinder
+     */
+    private static final class RegisteredBinder extends TypeBinder {
+        private final JsonBinder<Object> binder;
+
+        @SuppressWarnings("unchecked")
+        RegisteredBinder(JsonBinder<?> binder) {
+            super(true);
+            this.binder = (JsonBinder<Object>) binder;
+        }
+
+        @Override
+        Object read(JsonReader reader) {
+            return binder.read(reader);
+        }
+
+        @Override
+        void write(JsonWriter writer, Object value) {
+            if (value.getClass() != binder.type()) {
+                // 子类按实际类型写出
+                TypeBinder.of(value.getClass()).write(writer, value);
+                return;
+            }
+            binder.write(new JsonGenerator(writer), value);
+        }
+    }
+
+    private static final class EnumBinder extends TypeBinder {
+        private final Class<?> type;
+        private final Map<String, Object> constants = new HashMap<>();
+
+        EnumBinder(Class<?> type) {
+            super(true);
+            this.type = type;
+            for (Object constant : type.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name(), constant);
+            }
+        }
+
+        @Override
+        Object read(JsonReader reader) {
+            Object value = constants.get(reader.getString());
+            if (value == null) {
+                throw reader.error(type.getName() + " 中没有常量 " + reader.getString());
+            }
+            return value;
+        }
+
+        @Override
+        void write(JsonWriter writer, Object value) {
+            writer.writeString(((Enum<?>) value).name());
+        }
+    }
+
+    private static final class ToStringBinder extends TypeBinder {
+        private final Class<?> type;
+
+        ToStringBinder(Class<?> type) {
+            super(true);
+            this.type = type;
+        }
+
+        @Override
+        Object read(JsonReader reader) {
+            throw reader.error("不支持读取类型 " + type.getName());
+        }
+
+        @Override
+        void write(JsonWriter writer, Object value) {
+            writer.writeString(value.toString());
+        }
+    }
+
+    private static final class ArrayBinder extends TypeBinder {
+        private final Class<?> componentType;
+        private final TypeBinder component;
+
+        ArrayBinder(Class<?> componentType, TypeBinder component) {
+            super(true);
+            this.componentType = componentType;
+            this.component = component;
+        }
+
+        @Override
+        Object read(JsonReader reader) {
+            if (reader.currentToken() != JsonToken.START_ARRAY) {
+                throw mismatch(reader, Array.newInstance(componentType, 0).getClass());
+            }
+            // 最常见的几种基本类型数组直接读进同类型的缓冲区，不装箱
+            if (componentType == int.class) {
+                return readInts(reader);
+            }
+            if (componentType == long.class) {
+                return readLongs(reader);
+            }
+            if (componentType == double.class) {
+                return readDoubles(reader);
+            }
+            Object[] buffer = new Object[16];
+            int size = 0;
+            while (reader.nextToken() != JsonToken.END_ARRAY) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, size * 2);
+                }
+                buffer[size++] = component.readValue(reader);
+            }
+            Object array = Array.newInstance(componentType, size);
+            if (componentType.isPrimitive()) {
+                for (int i = 0; i < size; i++) {
+                    Array.set(array, i, buffer[i]);
+                }
+            } else {
+                System.arraycopy(buffer, 0, array, 0, size);
+            }
+            return array;
+        }
+
+        private static int[] readInts(JsonReader reader) {
+            int[] buffer = new int[16];
+            int size = 0;
+            while (reader.nextToken() != JsonToken.END_ARRAY) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, size * 2);
+                }
+                buffer[size++] = primitive(reader).getInt();
+            }
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private static long[] readLongs(JsonReader reader) {
+            long[] buffer = new long[16];
+            int size = 0;
+            while (reader.nextToken() != JsonToken.END_ARRAY) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, size * 2);
+                }
+                buffer[size++] = primitive(reader).getLong();
+            }
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private static double[] readDoubles(JsonReader reader) {
+            double[] buffer = new double[16];
+            int size = 0;
+            while (reader.nextToken() != JsonToken.END_ARRAY) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, size * 2);
+                }
+                buffer[size++] = primitive(reader).getDouble();
+            }
+            return Arrays.copyOf(buffer, size);
+        }
+
+        /**
+         * 确认当前元素不是null
+         */
+        private static JsonReader primitive(JsonReader reader) {
+            if (reader.currentToken() == JsonToken.VALUE_NULL) {
+                throw reader.error("基本类型的值不能为null");
+            }
+            return reader;
+        }
+
+        @Override
+        void write(JsonWriter writer, Object value) {
+            writer.writeAscii('[');
+            if (value instanceof int[] || value instanceof long[] || value instanceof double[]) {
+                writePrimitives(writer, value);
+                writer.writeAscii(']');
+                return;
+            }
+            for (int i = 0, length = Array.getLength(value); i < length; i++) {
+                if (i > 0) {
+                    writer.writeAscii(',');
+                }
+                component.writeValue(writer, Array.get(value, i));
+            }
+            writer.writeAscii(']');
+        }
+
+        private static void writePrimitives(JsonWriter writer, Object value) {
+            if (value instanceof int[]) {
+                int[] array = (int[]) value;
+                for (int i = 0; i < array.length; i++) {
+                    if (i > 0) {
+                        writer.writeAscii(',');
+                    }
+                    writer.writeLong(array[i]);
+                }
+            } else if (value instanceof long[]) {
+                long[] array = (long[]) value;
+                for (int i = 0; i < array.length; i++) {
+                    if (i > 0) {
+                        writer.writeAscii(',');
+                    }
+                    writer.writeLong(array[i]);
+                }
+            } else {
+                double[] array = (double[]) value;
+                for (int i = 0; i < array.length; i++) {
+                    if (i > 0) {
+                        writer.writeAscii(',');
+                    }
+                    writer.writeDouble(array[i]);
+                }
+            }
+        }
+    }
+
+    private static final class CollectionBinder extends TypeBinder {
+        private final Class<?> type;
+        private final TypeBinder element;
+
+        CollectionBinder(Class<?> type, TypeBinder element) {
+            super(true);
+            this.type = type;
+            this.element = element;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object read(JsonReader reader) {
+            if (reader.currentToken() != JsonToken.START_ARRAY) {
+                throw mismatch(reader, type);
+            }
+            Collection<Object> result = (Collection<Object>) newCollection(type);
+            while (reader.nextToken() != JsonToken.END_ARRAY) {
+                result.add(element.readValue(reader));
+            }
+            return result;
+        }
+
+        @Override
+        void write(JsonWriter writer, Object value) {
+            writer.writeAscii('[');
+            boolean first = true;
+            for (Object item : (Collection<?>) value) {
+                if (!first) {
+                    writer.writeAscii(',');
+                }
+                first = false;
+                element.writeValue(writer, item);
+            }
+            writer.writeAscii(']');
+        }
+
+        private static Object newCollection(Class<?> type) {
+            if (type.isAssignableFrom(ArrayList.class)) {
+                return new ArrayList<>();
+            }
+            if (type.isAssignableFrom(LinkedHashSet.class)) {
+                return new LinkedHashSet<>();
+            }
+            if (type.isAssignableFrom(TreeSet.class)) {
+                return new TreeSet<>();
+            }
+            if (type.isAssignableFrom(ArrayDeque.class)) {
+                return new ArrayDeque<>();
+            }
+            return BeanBinder.instantiate(type);
+        }
+    }
+
+    private static final class MapBinder extends TypeBinder {
+        private final Class<?> type;
+        private final TypeBinder value;
+
+        MapBinder(Class<?> type, Type keyType, TypeBinder value) {
+            super(true);
+            Class<?> key = rawClass(keyType);
+            if (key != String.class && key != Object.class && key != CharSequence.class) {
+                throw new IllegalArgumentException("Map的键只支持字符串: " + keyType.getTypeName());
+            }
+            this.type = type;
+            this.value = value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object read(JsonReader reader) {
+            if (reader.currentToken() != JsonToken.START_OBJECT) {
+                throw mismatch(reader, type);
+            }
+            Map<String, Object> result = type.isAssignableFrom(LinkedHashMap.class)
+                    ? new LinkedHashMap<>()
+                    : type.isAssignableFrom(TreeMap.class) ? new TreeMap<>() : (Map<String, Object>) BeanBinder.instantiate(type);
+            while (reader.nextToken() == JsonToken.FIELD_NAME) {
+                String key = reader.currentName();
+                reader.nextToken();
+                result.put(key, value.readValue(reader));
+            }
+            return result;
+        }
+
+        @Override
+        void write(JsonWriter writer, Object map) {
+            writer.writeAscii('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) map).entrySet()) {
+                if (!first) {
+                    writer.writeAscii(',');
+                }
+                first = false;
+                writer.writeString(String.valueOf(entry.getKey()));
+                writer.writeAscii(':');
+                value.writeValue(writer, entry.getValue());
+            }
+            writer.writeAscii('}');
+        }
+    }
+}
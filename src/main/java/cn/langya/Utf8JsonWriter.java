@@ -0,0 +1,228 @@
+package cn.langya;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 直接输出UTF-8字节的JsonWriter，省去先生成字符串再 getBytes 的整轮编码和复制
+ * 无需转义的ASCII片段逐字节直接写入，只有遇到转义字符或非ASCII字符时才走慢速路径
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+final class Utf8JsonWriter extends JsonWriter {
+    private final OutputStream out;
+    private final ByteBuffer target;
+    private byte[] buf;
+    private int count;
+
+    /**
+     * 写入内存，结果通过 {@link #toByteArray()} 取得
+     */
+    Utf8JsonWriter() {
+        this(null, null);
+    }
+
+    /**
+     * 写入输出流，写完后需要调用 {@link #flush()}
+     */
+    Utf8JsonWriter(OutputStream out) {
+        this(out, null);
+    }
+
+    /**
+     * 写入ByteBuffer，写完后需要调用 {@link #flush()}，空间不足时抛出 BufferOverflowException
+     */
+    Utf8JsonWriter(ByteBuffer target) {
+        this(null, target);
+    }
+
+    private Utf8JsonWriter(OutputStream out, ByteBuffer target) {
+        this.out = out;
+        this.target = target;
+        this.buf = BufferRecycler.acquireBytes(JsonSource.BUFFER_SIZE);
+    }
+
+    @Override
+    void writeAscii(char c) {
+        if (count == buf.length) {
+            drain(1);
+        }
+        buf[count++] = (byte) c;
+    }
+
+    @Override
+    void writeLong(long value) {
+        if (buf.length - count < NumberFormatter.MAX_LENGTH) {
+            drain(NumberFormatter.MAX_LENGTH);
+        }
+        count = NumberFormatter.writeLong(value, buf, count);
+    }
+
+    @Override
+    void writeDouble(double value) {
+        if (buf.length - count < NumberFormatter.MAX_LENGTH) {
+            drain(NumberFormatter.MAX_LENGTH);
+        }
+        count = NumberFormatter.writeDouble(value, buf, count);
+    }
+
+    @Override
+    void writeFloat(float value) {
+        if (buf.length - count < NumberFormatter.MAX_LENGTH) {
+            drain(NumberFormatter.MAX_LENGTH);
+        }
+        count = NumberFormatter.writeFloat(value, buf, count);
+    }
+
+    @Override
+    void writeRaw(String s) {
+        int length = s.length();
+        int i = 0;
+        while (i < length) {
+            if (count == buf.length) {
+                drain(length - i);
+            }
+            // ASCII快速路径
+            int stop = Math.min(length, i + buf.length - count);
+            char c;
+            while (i < stop && (c = s.charAt(i)) < 0x80) {
+                buf[count++] = (byte) c;
+                i++;
+            }
+            if (i < stop) {
+                i = writeMultiByte(s, i);
+            }
+        }
+    }
+
+    @Override
+    void writeString(String value) {
+        writeAscii('"');
+        int length = value.length();
+        int i = 0;
+        while (i < length) {
+            if (count == buf.length) {
+                drain(length - i);
+            }
+            // 无需转义的ASCII快速路径
+            int stop = Math.min(length, i + buf.length - count);
+            char c = 0;
+            while (i < stop && (c = value.charAt(i)) < 0x80 && ESCAPES[c] == 0) {
+                buf[count++] = (byte) c;
+                i++;
+            }
+            if (i < stop) {
+                if (c < 0x80) {
+                    writeEscape(c);
+                    i++;
+                } else {
+                    i = writeMultiByte(value, i);
+                }
+            }
+        }
+        writeAscii('"');
+    }
+
+    private void writeEscape(char c) {
+        if (buf.length - count < 6) {
+            drain(6);
+        }
+        buf[count++] = '\\';
+        int escape = ESCAPES[c];
+        if (escape > 0) {
+            buf[count++] = (byte) escape;
+        } else {
+            buf[count++] = 'u';
+            buf[count++] = '0';
+            buf[count++] = '0';
+            buf[count++] = (byte) HEX_DIGITS[c >> 4];
+            buf[count++] = (byte) HEX_DIGITS[c & 0xF];
+        }
+    }
+
+    /**
+     * 编码 s[i] 处的非ASCII字符（代理对一次编码两个char）
+     *
+     * @return 下一个要处理的下标
+     */
+    private int writeMultiByte(String s, int i) {
+        if (buf.length - count < 4) {
+            drain(4);
+        }
+        char c = s.charAt(i++);
+        if (c < 0x800) {
+            buf[count++] = (byte) (0xC0 | c >> 6);
+            buf[count++] = (byte) (0x80 | c & 0x3F);
+        } else if (Character.isHighSurrogate(c) && i < s.length() && Character.isLowSurrogate(s.charAt(i))) {
+            int cp = Character.toCodePoint(c, s.charAt(i++));
+            buf[count++] = (byte) (0xF0 | cp >> 18);
+            buf[count++] = (byte) (0x80 | cp >> 12 & 0x3F);
+            buf[count++] = (byte) (0x80 | cp >> 6 & 0x3F);
+            buf[count++] = (byte) (0x80 | cp & 0x3F);
+        } else if (Character.isSurrogate(c)) {
+            // 不成对的代理字符，与 String.getBytes 一样替换为 '?'
+            buf[count++] = '?';
+        } else {
+            buf[count++] = (byte) (0xE0 | c >> 12);
+            buf[count++] = (byte) (0x80 | c >> 6 & 0x3F);
+            buf[count++] = (byte) (0x80 | c & 0x3F);
+        }
+        return i;
+    }
+
+    /**
+     * 缓冲区空间不足：写入内存时扩容，否则把缓冲区内容交给目标
+     */
+    private void drain(int needed) {
+        if (out == null && target == null) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, count + needed));
+            return;
+        }
+        flushBuffer();
+    }
+
+    private void flushBuffer() {
+        if (target != null) {
+            target.put(buf, 0, count);
+        } else {
+            try {
+                out.write(buf, 0, count);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        count = 0;
+    }
+
+    /**
+     * 把缓冲区中剩余的内容交给目标，目标是输出流时一并刷新
+     */
+    @Override
+    void flush() {
+        if (out == null && target == null) {
+            return;
+        }
+        flushBuffer();
+        if (out != null) {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    void release() {
+        BufferRecycler.releaseBytes(buf);
+        buf = null;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+}
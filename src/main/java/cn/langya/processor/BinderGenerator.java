@@ -0,0 +1,610 @@
+package cn.langya.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 为一个被 JsonSerializable 标记的类生成 JsonBinder 的源代码
+ * 字段的取舍与运行时的反射绑定相同；基本类型、字符串、枚举、集合、Map和数组生成专门的读写代码，
+ * 其他类型交给 JsonReader.readValue 和 JsonGenerator.value，被标记的嵌套类型因此同样使用生成的代码
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+final class BinderGenerator {
+    private static final String READER = "cn.langya.JsonReader";
+    private static final String GENERATOR = "cn.langya.JsonGenerator";
+    private static final String TOKEN = "cn.langya.JsonToken";
+
+    private final ProcessingEnvironment env;
+    private final Types types;
+    private final Elements elements;
+    private final TypeElement type;
+    private final String packageName;
+    private final String binderName;
+    private final StringBuilder out = new StringBuilder();
+    /**
+     * 生成局部变量名用的计数器
+     */
+    private int vars;
+
+    BinderGenerator(ProcessingEnvironment env, Element element) throws InvalidElementException {
+        this.env = env;
+        this.types = env.getTypeUtils();
+        this.elements = env.getElementUtils();
+        if (element.getKind() != ElementKind.CLASS) {
+            throw new InvalidElementException("@JsonSerializable 只能用于类", element);
+        }
+        this.type = (TypeElement) element;
+        Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT)) {
+            throw new InvalidElementException("@JsonSerializable 不能用于抽象类", element);
+        }
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            throw new InvalidElementException("@JsonSerializable 不能用于private类", element);
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new InvalidElementException("@JsonSerializable 不能用于泛型类", element);
+        }
+        if (type.getNestingKind() == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC)) {
+            throw new InvalidElementException("@JsonSerializable 不能用于非静态内部类", element);
+        }
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element e = type.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+            name.insert(0, e.getSimpleName() + "_");
+        }
+        this.packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        this.binderName = name + "JsonBinder";
+    }
+
+    /**
+     * 生成并写出源文件
+     *
+     * @return 生成的类的全名
+     */
+    String generate() throws InvalidElementException, IOException {
+        List<Property> properties = properties();
+        String typeName = type.getQualifiedName().toString();
+        if (!packageName.isEmpty()) {
+            line("", "package " + packageName + ";");
+            line("", "");
+        }
+        line("", "/**");
+        line("", " * 由 JsonSerializableProcessor 为 " + type.getSimpleName() + " 生成，请勿修改");
+        line("", " */");
+        // 参数化类型的数组只能由原始类型创建，字段本身也可能是原始类型；使用方按 -Werror 编译时不能因此失败
+        line("", "@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+        line("", "public final class " + binderName + " implements cn.langya.JsonBinder<" + typeName + "> {");
+        line("    ", "@Override");
+        line("    ", "public Class<" + typeName + "> type() {");
+        line("        ", "return " + typeName + ".class;");
+        line("    ", "}");
+        line("", "");
+        generateRead(typeName, properties);
+        line("", "");
+        generateWrite(typeName, properties);
+        line("", "}");
+
+        String qualifiedName = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+        JavaFileObject file = env.getFiler().createSourceFile(qualifiedName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(out.toString());
+        }
+        return qualifiedName;
+    }
+
+    private void generateRead(String typeName, List<Property> properties) throws InvalidElementException {
+        line("    ", "@Override");
+        line("    ", "@SuppressWarnings(\"unchecked\")");
+        line("    ", "public " + typeName + " read(" + READER + " reader) {");
+        if (!hasConstructor()) {
+            line("        ", "throw reader.error(\"类 " + typeName + " 没有可访问的无参构造器\");");
+            line("    ", "}");
+            return;
+        }
+        line("        ", "reader.expect(" + TOKEN + ".START_OBJECT);");
+        line("        ", typeName + " bean = new " + typeName + "();");
+        line("        ", "while (reader.nextToken() == " + TOKEN + ".FIELD_NAME) {");
+        line("            ", "String name = reader.currentName();");
+        line("            ", "reader.nextToken();");
+        line("            ", "switch (name) {");
+        for (Property property : properties) {
+            if (property.setter == null) {
+                continue;
+            }
+            line("                ", "case \"" + property.name + "\": {");
+            String value = read(property.type, "                    ");
+            line("                    ", String.format(property.setter, value));
+            line("                    ", "break;");
+            line("                ", "}");
+        }
+        line("                ", "default:");
+        line("                    ", "reader.skipChildren();");
+        line("                    ", "break;");
+        line("            ", "}");
+        line("        ", "}");
+        line("        ", "return bean;");
+        line("    ", "}");
+    }
+
+    private void generateWrite(String typeName, List<Property> properties) throws InvalidElementException {
+        line("    ", "@Override");
+        line("    ", "public void write(" + GENERATOR + " generator, " + typeName + " value) {");
+        line("        ", "generator.beginObject();");
+        for (Property property : properties) {
+            line("        ", "generator.name(\"" + property.name + "\");");
+            write(property.type, property.getter, "        ");
+        }
+        line("        ", "generator.endObject();");
+        line("    ", "}");
+    }
+
+    /**
+     * 按反射绑定的规则收集字段：父类的字段在前，子类的同名字段遮蔽父类的字段
+     */
+    private List<Property> properties() throws InvalidElementException {
+        List<TypeElement> hierarchy = new ArrayList<>();
+        for (TypeElement t = type; t != null && !t.getQualifiedName().contentEquals("java.lang.Object"); t = superclass(t)) {
+            hierarchy.add(0, t);
+        }
+        DeclaredType declared = (DeclaredType) type.asType();
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (TypeElement t : hierarchy) {
+            for (VariableElement field : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                    continue;
+                }
+                Property property = property(declared, field);
+                properties.remove(property.name);
+                properties.put(property.name, property);
+            }
+        }
+        return new ArrayList<>(properties.values());
+    }
+
+    private static TypeElement superclass(TypeElement t) {
+        TypeMirror superclass = t.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    }
+
+    private Property property(DeclaredType declared, VariableElement field) throws InvalidElementException {
+        String name = field.getSimpleName().toString();
+        // 以被标记的类为视角解析父类字段中的类型参数
+        TypeMirror fieldType = types.asMemberOf(declared, field);
+        boolean isFinal = field.getModifiers().contains(Modifier.FINAL);
+        if (accessible(field)) {
+            return new Property(name, fieldType, "value." + name, isFinal ? null : "bean." + name + " = %s;");
+        }
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        ExecutableElement getter = method("get" + capitalized, 0, fieldType);
+        if (getter == null && fieldType.getKind() == TypeKind.BOOLEAN) {
+            getter = method("is" + capitalized, 0, fieldType);
+        }
+        ExecutableElement setter = isFinal ? null : method("set" + capitalized, 1, fieldType);
+        if (getter == null || !isFinal && setter == null) {
+            throw new InvalidElementException("private字段 " + name + " 需要非private的getter和setter", field);
+        }
+        return new Property(name, fieldType, "value." + getter.getSimpleName() + "()",
+                setter == null ? null : "bean." + setter.getSimpleName() + "(%s);");
+    }
+
+    /**
+     * @return 名为 name、有 params 个 fieldType 类型参数（没有参数时返回 fieldType）且生成的代码能调用的实例方法
+     */
+    private ExecutableElement method(String name, int params, TypeMirror fieldType) {
+        DeclaredType declared = (DeclaredType) type.asType();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (!method.getSimpleName().contentEquals(name) || method.getParameters().size() != params
+                    || method.getModifiers().contains(Modifier.STATIC) || !accessible(method)) {
+                continue;
+            }
+            ExecutableType resolved = (ExecutableType) types.asMemberOf(declared, method);
+            TypeMirror actual = params == 0 ? resolved.getReturnType() : resolved.getParameterTypes().get(0);
+            if (types.isSameType(actual, fieldType)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return 与被标记的类同包的生成代码能否直接访问该成员
+     */
+    private boolean accessible(Element member) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return modifiers.contains(Modifier.PUBLIC)
+                || elements.getPackageOf(member).getQualifiedName().contentEquals(packageName);
+    }
+
+    private boolean hasConstructor() {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 追加读取当前值的语句，当前记号是值的第一个记号
+     *
+     * @return 保存读取结果的局部变量名
+     */
+    private String read(TypeMirror t, String indent) throws InvalidElementException {
+        String v = "v" + vars++;
+        switch (t.getKind()) {
+            case INT:
+                line(indent, "int " + v + " = reader.getInt();");
+                return v;
+            case LONG:
+                line(indent, "long " + v + " = reader.getLong();");
+                return v;
+            case DOUBLE:
+                line(indent, "double " + v + " = reader.getDouble();");
+                return v;
+            case FLOAT:
+                line(indent, "float " + v + " = (float) reader.getDouble();");
+                return v;
+            case BOOLEAN:
+                line(indent, "boolean " + v + " = reader.getBoolean();");
+                return v;
+            case SHORT:
+            case BYTE:
+            case CHAR:
+                // 与getInt等方法一样，null在拆箱之前就报错
+                line(indent, "if (reader.currentToken() == " + TOKEN + ".VALUE_NULL) {");
+                line(indent + "    ", "throw reader.error(\"基本类型的值不能为null\");");
+                line(indent, "}");
+                line(indent, t + " " + v + " = reader.readValue(" + t + ".class);");
+                return v;
+            case ARRAY:
+                readArray((ArrayType) t, v, indent);
+                return v;
+            case DECLARED:
+                break;
+            default:
+                throw new InvalidElementException("不支持的字段类型: " + t, type);
+        }
+        String typeName = name(t, true);
+        TypeElement element = (TypeElement) ((DeclaredType) t).asElement();
+        String nullCheck = "reader.currentToken() == " + TOKEN + ".VALUE_NULL";
+        if (element.getQualifiedName().contentEquals("java.lang.String")) {
+            line(indent, "String " + v + " = " + nullCheck + " ? null : reader.getString();");
+        } else if (element.getKind() == ElementKind.ENUM) {
+            line(indent, typeName + " " + v + " = null;");
+            line(indent, "if (!(" + nullCheck + ")) {");
+            line(indent + "    ", "switch (reader.getString()) {");
+            for (VariableElement constant : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+                if (constant.getKind() == ElementKind.ENUM_CONSTANT) {
+                    line(indent + "        ", "case \"" + constant.getSimpleName() + "\":");
+                    line(indent + "            ", v + " = " + typeName + "." + constant.getSimpleName() + ";");
+                    line(indent + "            ", "break;");
+                }
+            }
+            line(indent + "        ", "default:");
+            line(indent + "            ", "throw reader.error(\"" + typeName + " 中没有常量 \" + reader.getString());");
+            line(indent + "    ", "}");
+            line(indent, "}");
+        } else if (isSubtype(t, "java.util.Collection")) {
+            TypeMirror elementType = bound(typeArgument(t, "java.util.Collection", 0));
+            line(indent, typeName + " " + v + " = null;");
+            line(indent, "if (!(" + nullCheck + ")) {");
+            line(indent + "    ", "reader.expect(" + TOKEN + ".START_ARRAY);");
+            line(indent + "    ", v + " = " + newInstance(t, "java.util.ArrayList", "java.util.LinkedHashSet",
+                    "java.util.TreeSet", "java.util.ArrayDeque") + ";");
+            line(indent + "    ", "while (reader.nextToken() != " + TOKEN + ".END_ARRAY) {");
+            String item = read(elementType, indent + "        ");
+            line(indent + "        ", v + ".add(" + item + ");");
+            line(indent + "    ", "}");
+            line(indent, "}");
+        } else if (isSubtype(t, "java.util.Map")) {
+            checkKey(typeArgument(t, "java.util.Map", 0));
+            TypeMirror valueType = bound(typeArgument(t, "java.util.Map", 1));
+            line(indent, typeName + " " + v + " = null;");
+            line(indent, "if (!(" + nullCheck + ")) {");
+            line(indent + "    ", "reader.expect(" + TOKEN + ".START_OBJECT);");
+            line(indent + "    ", v + " = " + newInstance(t, "java.util.LinkedHashMap", "java.util.TreeMap") + ";");
+            line(indent + "    ", "while (reader.nextToken() == " + TOKEN + ".FIELD_NAME) {");
+            String key = "k" + vars++;
+            line(indent + "        ", "String " + key + " = reader.currentName();");
+            line(indent + "        ", "reader.nextToken();");
+            String item = read(valueType, indent + "        ");
+            line(indent + "        ", v + ".put(" + key + ", " + item + ");");
+            line(indent + "    ", "}");
+            line(indent, "}");
+        } else {
+            String cast = ((DeclaredType) t).getTypeArguments().isEmpty() ? "" : "(" + typeName + ") ";
+            line(indent, typeName + " " + v + " = " + cast + "reader.readValue(" + erasure(t) + ".class);");
+        }
+        return v;
+    }
+
+    private void readArray(ArrayType t, String v, String indent) throws InvalidElementException {
+        TypeMirror component = t.getComponentType();
+        // new T[n][]...：最内层的元素类型之后才是长度
+        TypeMirror base = component;
+        StringBuilder dims = new StringBuilder();
+        while (base.getKind() == TypeKind.ARRAY) {
+            base = ((ArrayType) base).getComponentType();
+            dims.append("[]");
+        }
+        String cast = component.getKind() == TypeKind.DECLARED && !((DeclaredType) component).getTypeArguments().isEmpty()
+                || base.getKind() == TypeKind.DECLARED && !((DeclaredType) base).getTypeArguments().isEmpty()
+                ? "(" + name(t, true) + ") " : "";
+        // 元素直接读进同类型的数组，满了按两倍扩容，最后截到实际长度；基本类型的元素不装箱
+        String size = "n" + vars++;
+        line(indent, name(t, true) + " " + v + " = null;");
+        line(indent, "if (reader.currentToken() != " + TOKEN + ".VALUE_NULL) {");
+        line(indent + "    ", "reader.expect(" + TOKEN + ".START_ARRAY);");
+        line(indent + "    ", v + " = " + cast + "new " + erasure(base) + "[16]" + dims + ";");
+        line(indent + "    ", "int " + size + " = 0;");
+        line(indent + "    ", "while (reader.nextToken() != " + TOKEN + ".END_ARRAY) {");
+        String item = read(component, indent + "        ");
+        line(indent + "        ", "if (" + size + " == " + v + ".length) {");
+        line(indent + "            ", v + " = java.util.Arrays.copyOf(" + v + ", " + size + " * 2);");
+        line(indent + "        ", "}");
+        line(indent + "        ", v + "[" + size + "++] = " + item + ";");
+        line(indent + "    ", "}");
+        line(indent + "    ", v + " = java.util.Arrays.copyOf(" + v + ", " + size + ");");
+        line(indent, "}");
+    }
+
+    /**
+     * 追加写出 expr 的值的语句，之前已经写出了对应的键或逗号由生成器处理
+     */
+    private void write(TypeMirror t, String expr, String indent) throws InvalidElementException {
+        switch (t.getKind()) {
+            case INT:
+            case SHORT:
+            case BYTE:
+                line(indent, "generator.value((long) " + expr + ");");
+                return;
+            case LONG:
+                line(indent, "generator.value(" + expr + ");");
+                return;
+            case DOUBLE:
+            case FLOAT:
+            case BOOLEAN:
+                line(indent, "generator.value(" + expr + ");");
+                return;
+            case CHAR:
+                line(indent, "generator.value(String.valueOf(" + expr + "));");
+                return;
+            case ARRAY:
+            case DECLARED:
+                break;
+            default:
+                throw new InvalidElementException("不支持的字段类型: " + t, type);
+        }
+        if (t.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) t).asElement()).getQualifiedName().contentEquals("java.lang.String")) {
+            line(indent, "generator.value(" + expr + ");");
+            return;
+        }
+        boolean isEnum = t.getKind() == TypeKind.DECLARED && ((DeclaredType) t).asElement().getKind() == ElementKind.ENUM;
+        boolean isCollection = isSubtype(t, "java.util.Collection");
+        boolean isMap = isSubtype(t, "java.util.Map");
+        if (t.getKind() == TypeKind.DECLARED && (!isEnum && !isCollection && !isMap || isRaw((DeclaredType) t))) {
+            // 静态类型已经是Object时再转换会产生多余转换的警告
+            boolean isObject = ((TypeElement) ((DeclaredType) t).asElement()).getQualifiedName().contentEquals("java.lang.Object");
+            line(indent, "generator.value(" + (isObject ? "" : "(Object) ") + expr + ");");
+            return;
+        }
+        String v = "v" + vars++;
+        line(indent, name(t) + " " + v + " = " + expr + ";");
+        line(indent, "if (" + v + " == null) {");
+        line(indent + "    ", "generator.nullValue();");
+        if (isEnum) {
+            line(indent, "} else {");
+            line(indent + "    ", "generator.value(" + v + ".name());");
+        } else if (isMap) {
+            TypeMirror valueType = bound(typeArgument(t, "java.util.Map", 1));
+            String entry = "e" + vars++;
+            line(indent, "} else {");
+            line(indent + "    ", "generator.beginObject();");
+            line(indent + "    ", "for (java.util.Map.Entry<?, ? extends " + name(boxed(valueType)) + "> " + entry + " : " + v + ".entrySet()) {");
+            line(indent + "        ", "generator.name(String.valueOf(" + entry + ".getKey()));");
+            write(valueType, entry + ".getValue()", indent + "        ");
+            line(indent + "    ", "}");
+            line(indent + "    ", "generator.endObject();");
+        } else {
+            TypeMirror elementType = isCollection
+                    ? bound(typeArgument(t, "java.util.Collection", 0))
+                    : ((ArrayType) t).getComponentType();
+            String item = "v" + vars++;
+            line(indent, "} else {");
+            line(indent + "    ", "generator.beginArray();");
+            line(indent + "    ", "for (" + name(elementType) + " " + item + " : " + v + ") {");
+            write(elementType, item, indent + "        ");
+            line(indent + "    ", "}");
+            line(indent + "    ", "generator.endArray();");
+        }
+        line(indent, "}");
+    }
+
+    /**
+     * @return t 是否是省略了类型参数的泛型类型，遍历它的元素时只能得到Object
+     */
+    private static boolean isRaw(DeclaredType t) {
+        return t.getTypeArguments().isEmpty() && !((TypeElement) t.asElement()).getTypeParameters().isEmpty();
+    }
+
+    private boolean isSubtype(TypeMirror t, String className) {
+        if (t.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeElement target = elements.getTypeElement(className);
+        return types.isSubtype(types.erasure(t), types.erasure(target.asType()));
+    }
+
+    /**
+     * 在 t 的父类型中找到 className，返回它的第 index 个类型参数；原始类型返回Object
+     */
+    private TypeMirror typeArgument(TypeMirror t, String className, int index) {
+        DeclaredType declared = (DeclaredType) t;
+        if (((TypeElement) declared.asElement()).getQualifiedName().contentEquals(className)) {
+            List<? extends TypeMirror> args = declared.getTypeArguments();
+            return args.isEmpty() ? elements.getTypeElement("java.lang.Object").asType() : args.get(index);
+        }
+        for (TypeMirror supertype : types.directSupertypes(t)) {
+            if (isSubtype(supertype, className)) {
+                return typeArgument(supertype, className, index);
+            }
+        }
+        return elements.getTypeElement("java.lang.Object").asType();
+    }
+
+    /**
+     * 通配符和类型变量按上界处理
+     */
+    private TypeMirror bound(TypeMirror t) {
+        if (t.getKind() == TypeKind.WILDCARD) {
+            TypeMirror extendsBound = ((WildcardType) t).getExtendsBound();
+            return extendsBound != null ? bound(extendsBound) : elements.getTypeElement("java.lang.Object").asType();
+        }
+        if (t.getKind() == TypeKind.TYPEVAR) {
+            return types.erasure(t);
+        }
+        return t;
+    }
+
+    private void checkKey(TypeMirror key) throws InvalidElementException {
+        String name = types.erasure(bound(key)).toString();
+        if (!name.equals("java.lang.String") && !name.equals("java.lang.Object") && !name.equals("java.lang.CharSequence")) {
+            throw new InvalidElementException("Map的键只支持字符串: " + key, type);
+        }
+    }
+
+    /**
+     * @return 创建 t 的实例的表达式；t 是接口或抽象类时选用第一个能赋值给它的候选类
+     */
+    private String newInstance(TypeMirror t, String... candidates) throws InvalidElementException {
+        TypeElement element = (TypeElement) ((DeclaredType) t).asElement();
+        if (element.getKind() == ElementKind.CLASS && !element.getModifiers().contains(Modifier.ABSTRACT)) {
+            return "new " + element.getQualifiedName() + (element.getTypeParameters().isEmpty() ? "()" : "<>()");
+        }
+        for (String candidate : candidates) {
+            TypeMirror candidateType = types.erasure(elements.getTypeElement(candidate).asType());
+            if (types.isAssignable(candidateType, types.erasure(t))) {
+                return "new " + candidate + "<>()";
+            }
+        }
+        throw new InvalidElementException("无法实例化类型: " + t, type);
+    }
+
+    private TypeMirror boxed(TypeMirror t) {
+        return t.getKind().isPrimitive() ? types.boxedClass((PrimitiveType) t).asType() : t;
+    }
+
+    private String erasure(TypeMirror t) {
+        return name(types.erasure(t));
+    }
+
+    /**
+     * 生成源代码中的类型名，不带类型注解
+     */
+    private String name(TypeMirror t) {
+        return name(t, false);
+    }
+
+    /**
+     * @param concrete 为true时通配符写成其上界，得到的类型可以创建并填充后赋给带通配符的字段
+     */
+    private String name(TypeMirror t, boolean concrete) {
+        switch (t.getKind()) {
+            case ARRAY:
+                return name(((ArrayType) t).getComponentType(), concrete) + "[]";
+            case DECLARED:
+                DeclaredType declared = (DeclaredType) t;
+                StringBuilder sb = new StringBuilder(((TypeElement) declared.asElement()).getQualifiedName());
+                List<? extends TypeMirror> args = declared.getTypeArguments();
+                if (!args.isEmpty()) {
+                    sb.append('<');
+                    for (int i = 0; i < args.size(); i++) {
+                        if (i > 0) {
+                            sb.append(", ");
+                        }
+                        sb.append(name(args.get(i), concrete));
+                    }
+                    sb.append('>');
+                }
+                return sb.toString();
+            case WILDCARD:
+                WildcardType wildcard = (WildcardType) t;
+                if (concrete) {
+                    return name(bound(t), true);
+                }
+                if (wildcard.getExtendsBound() != null) {
+                    return "? extends " + name(wildcard.getExtendsBound());
+                }
+                if (wildcard.getSuperBound() != null) {
+                    return "? super " + name(wildcard.getSuperBound());
+                }
+                return "?";
+            case TYPEVAR:
+                return name(types.erasure(t));
+            default:
+                return t.getKind().name().toLowerCase(java.util.Locale.ROOT);
+        }
+    }
+
+    private void line(String indent, String code) {
+        if (!code.isEmpty()) {
+            out.append(indent).append(code);
+        }
+        out.append('\n');
+    }
+
+    /**
+     * 一个字段的键名、类型和读写它的代码
+     */
+    private static final class Property {
+        final String name;
+        final TypeMirror type;
+        /**
+         * 读取字段值的表达式
+         */
+        final String getter;
+        /**
+         * 赋值语句的格式，%s 是新值；final字段为null
+         */
+        final String setter;
+
+        Property(String name, TypeMirror type, String getter, String setter) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    /**
+     * 被标记的类或其字段不满足生成条件
+     */
+    static final class InvalidElementException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        final transient Element element;
+
+        InvalidElementException(String message, Element element) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
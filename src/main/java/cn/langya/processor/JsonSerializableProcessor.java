@@ -0,0 +1,100 @@
+package cn.langya.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * {@link cn.langya.JsonSerializable} 的注解处理器
+ * 为每个被标记的类生成一个 JsonBinder 实现，并把它们写入 META-INF/services/cn.langya.JsonBinder。
+ * 生成的代码直接读写字段、按键名 switch，只依赖 JsonReader 和 JsonGenerator 的公开方法，运行时不使用反射
+ * <p>
+ * 本处理器和运行库在同一个jar中，放在编译类路径上即可被javac发现；
+ * JDK 23 及以上默认不再运行类路径上的处理器，需要加上 -proc:full 或通过 -processorpath 指定
+ *
+ * @author LangYa466
+ * @since 2026/10/17
+ */
+@SupportedAnnotationTypes("cn.langya.JsonSerializable")
+public final class JsonSerializableProcessor extends AbstractProcessor {
+    private static final String SERVICE_FILE = "META-INF/services/cn.langya.JsonBinder";
+
+    /**
+     * 本次编译生成的全部 JsonBinder 的类名
+     */
+    private final Set<String> binders = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        if (round.processingOver()) {
+            if (!binders.isEmpty()) {
+                writeServiceFile();
+            }
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                try {
+                    binders.add(new BinderGenerator(processingEnv, element).generate());
+                } catch (BinderGenerator.InvalidElementException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+                } catch (IOException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "无法写出生成的代码: " + e, element);
+                }
+            }
+        }
+        // 声明已处理该注解，-Xlint:all 下不再提示没有处理器认领
+        return true;
+    }
+
+    /**
+     * 合并增量编译时已有的注册项后重写服务文件
+     */
+    private void writeServiceFile() {
+        Set<String> names = new TreeSet<>(binders);
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")) {
+                        names.add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // 还没有服务文件
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String name : names) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "无法写出 " + SERVICE_FILE + ": " + e);
+        }
+    }
+}